@@ -0,0 +1,409 @@
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import javax.media.opengl.GL;
+
+
+
+/**
+ * A pre-compressed texture with mipmaps read from a KTX or DDS file.
+ * The file is memory mapped and each mip level is a view into the
+ * mapped file, so nothing is decoded or copied before upload.
+ * @author Andrew
+ */
+public class CompressedTexture
+{
+    /** DDS magic number "DDS " */
+    private static final int DDS_MAGIC = 0x20534444;
+    /** DDS header flag for a valid mip count */
+    private static final int DDSD_MIPMAPCOUNT = 0x20000;
+    /** DDS pixel format flag for a valid four CC */
+    private static final int DDPF_FOURCC = 0x4;
+    /** DDS pixel format flag for alpha */
+    private static final int DDPF_ALPHAPIXELS = 0x1;
+    /** DDS caps2 flags for cubemaps and volume textures */
+    private static final int DDSCAPS2_CUBEMAP = 0x200;
+    private static final int DDSCAPS2_VOLUME = 0x200000;
+    /** DDS four CC codes */
+    private static final int FOURCC_DXT1 = 0x31545844;
+    private static final int FOURCC_DXT3 = 0x33545844;
+    private static final int FOURCC_DXT5 = 0x35545844;
+    private static final int FOURCC_DX10 = 0x30315844;
+    /** DXGI formats in a DX10 header */
+    private static final int DXGI_BC1 = 71;
+    private static final int DXGI_BC1_SRGB = 72;
+    private static final int DXGI_BC2 = 74;
+    private static final int DXGI_BC2_SRGB = 75;
+    private static final int DXGI_BC3 = 77;
+    private static final int DXGI_BC3_SRGB = 78;
+    /** DX10 header resource dimension of a 2D texture */
+    private static final int DDS_DIMENSION_TEXTURE2D = 3;
+    /** DX10 header misc flag for a cubemap */
+    private static final int DDS_RESOURCE_MISC_TEXTURECUBE = 0x4;
+
+    /** KTX 1.1 file identifier */
+    private static final byte[] KTX_IDENTIFIER =
+    {
+        (byte) 0xAB, 0x4B, 0x54, 0x58, 0x20, 0x31, 0x31, (byte) 0xBB, 0x0D, 0x0A, 0x1A, 0x0A
+    };
+    /** KTX endianness marker */
+    private static final int KTX_ENDIAN = 0x04030201;
+
+    /** GL compressed format */
+    private final int internalFormat;
+    /** Size of the top level */
+    private final int width;
+    private final int height;
+    /** Data of each mip level (views into the file) */
+    private final ByteBuffer[] levels;
+
+
+
+    /**
+     * Creates a compressed texture
+     * @param internalFormat the GL compressed format
+     * @param width width of the top level
+     * @param height height of the top level
+     * @param levels data of each mip level
+     */
+    private CompressedTexture(int internalFormat, int width, int height, ByteBuffer[] levels)
+    {
+        this.internalFormat = internalFormat;
+        this.width = width;
+        this.height = height;
+        this.levels = levels;
+    }
+
+
+    /**
+     * Checks if a file name is a compressed texture container
+     * @param fileName the file name
+     * @return true if the file is a .ktx or .dds file
+     */
+    public static boolean isCompressedFile(String fileName)
+    {
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".ktx") || lower.endsWith(".dds");
+    }
+
+    /**
+     * Memory maps and reads a KTX or DDS file
+     * @param fileName the file to read
+     * @return the compressed texture
+     * @throws IOException if the file could not be read or is not supported
+     */
+    public static CompressedTexture load(String fileName) throws IOException
+    {
+        RandomAccessFile file = new RandomAccessFile(new File(fileName), "r");
+        try
+        {
+            FileChannel channel = file.getChannel();
+            //mapping stays valid after the file is closed
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        finally
+        {
+            file.close();
+        }
+    }
+
+    /**
+     * Reads a KTX or DDS texture from a buffer
+     * @param data the file contents
+     * @return the compressed texture (levels are views into data)
+     * @throws IOException if the data is not a supported texture
+     */
+    public static CompressedTexture read(ByteBuffer data) throws IOException
+    {
+        ByteBuffer b = data.duplicate();
+        b.order(ByteOrder.LITTLE_ENDIAN);
+
+        if(b.remaining() >= 4 && b.getInt(b.position()) == DDS_MAGIC)
+            return readDDS(b);
+
+        if(b.remaining() >= KTX_IDENTIFIER.length)
+        {
+            boolean ktx = true;
+            for(int i = 0; i < KTX_IDENTIFIER.length; i++)
+                ktx &= b.get(b.position() + i) == KTX_IDENTIFIER[i];
+            if(ktx)
+                return readKTX(b);
+        }
+
+        throw new IOException("Not a KTX or DDS texture");
+    }
+
+
+    /**
+     * Reads a 2D DDS texture with DXT1, DXT3 or DXT5 data.
+     * Cubemaps, volumes and texture arrays are not supported.
+     * @param b the file contents (little endian)
+     * @return the compressed texture
+     * @throws IOException if the data is not a supported texture
+     */
+    private static CompressedTexture readDDS(ByteBuffer b) throws IOException
+    {
+        int start = b.position();
+        if(b.remaining() < 128 || b.getInt(start + 4) != 124)
+            throw new IOException("Bad DDS header");
+
+        int flags = b.getInt(start + 8);
+        int height = b.getInt(start + 12);
+        int width = b.getInt(start + 16);
+        int mipCount = (flags & DDSD_MIPMAPCOUNT) != 0 ? Math.max(1, b.getInt(start + 28)) : 1;
+        int formatFlags = b.getInt(start + 80);
+        int fourCC = b.getInt(start + 84);
+        int caps2 = b.getInt(start + 112);
+
+        if((formatFlags & DDPF_FOURCC) == 0)
+            throw new IOException("DDS texture is not compressed");
+        if((caps2 & (DDSCAPS2_CUBEMAP | DDSCAPS2_VOLUME)) != 0)
+            throw new IOException("Only 2D DDS textures are supported");
+
+        int dataStart = start + 128;
+        int format;
+        if(fourCC == FOURCC_DXT1)
+        {
+            format = (formatFlags & DDPF_ALPHAPIXELS) != 0
+                    ? GL.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT : GL.GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+        }
+        else if(fourCC == FOURCC_DXT3)
+        {
+            format = GL.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT;
+        }
+        else if(fourCC == FOURCC_DXT5)
+        {
+            format = GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+        }
+        else if(fourCC == FOURCC_DX10)
+        {
+            if(b.remaining() < 148)
+                throw new IOException("Bad DDS DX10 header");
+
+            int dxgi = b.getInt(dataStart);
+            int dimension = b.getInt(dataStart + 4);
+            int miscFlag = b.getInt(dataStart + 8);
+            int arraySize = b.getInt(dataStart + 12);
+            dataStart += 20;
+
+            if(dimension != DDS_DIMENSION_TEXTURE2D || (miscFlag & DDS_RESOURCE_MISC_TEXTURECUBE) != 0 || arraySize > 1)
+                throw new IOException("Only 2D DDS textures are supported");
+
+            if(dxgi == DXGI_BC1)
+                format = GL.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT;
+            else if(dxgi == DXGI_BC1_SRGB)
+                format = GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1_EXT;
+            else if(dxgi == DXGI_BC2)
+                format = GL.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT;
+            else if(dxgi == DXGI_BC2_SRGB)
+                format = GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3_EXT;
+            else if(dxgi == DXGI_BC3)
+                format = GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+            else if(dxgi == DXGI_BC3_SRGB)
+                format = GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5_EXT;
+            else
+                throw new IOException("Unsupported DDS DXGI format " + dxgi);
+        }
+        else
+        {
+            throw new IOException("Unsupported DDS format " + Integer.toHexString(fourCC));
+        }
+
+        checkSize(width, height, mipCount);
+
+        ByteBuffer[] levels = new ByteBuffer[mipCount];
+        int offset = dataStart;
+        for(int i = 0; i < mipCount; i++)
+        {
+            int size = blockLevelSize(format, Math.max(1, width >> i), Math.max(1, height >> i));
+            levels[i] = view(b, offset, size);
+            offset += size;
+        }
+
+        return new CompressedTexture(format, width, height, levels);
+    }
+
+    /**
+     * Reads a KTX 1.1 texture with compressed 2D data
+     * @param b the file contents
+     * @return the compressed texture
+     * @throws IOException if the data is not a supported texture
+     */
+    private static CompressedTexture readKTX(ByteBuffer b) throws IOException
+    {
+        int start = b.position();
+        if(b.remaining() < 64)
+            throw new IOException("Bad KTX header");
+
+        //the writer's byte order is given by the endianness field
+        if(b.getInt(start + 12) != KTX_ENDIAN)
+        {
+            b.order(ByteOrder.BIG_ENDIAN);
+            if(b.getInt(start + 12) != KTX_ENDIAN)
+                throw new IOException("Bad KTX endianness");
+        }
+
+        int glType = b.getInt(start + 16);
+        int format = b.getInt(start + 28);
+        int width = b.getInt(start + 36);
+        int height = b.getInt(start + 40);
+        int depth = b.getInt(start + 44);
+        int arrayElements = b.getInt(start + 48);
+        int faces = b.getInt(start + 52);
+        int mipCount = Math.max(1, b.getInt(start + 56));
+        int keyValueBytes = b.getInt(start + 60);
+
+        if(glType != 0)
+            throw new IOException("KTX texture is not compressed");
+        if(depth != 0 || arrayElements != 0 || faces != 1)
+            throw new IOException("Only 2D KTX textures are supported");
+        if(keyValueBytes < 0)
+            throw new IOException("Bad KTX key value data");
+
+        checkSize(width, height, mipCount);
+
+        ByteBuffer[] levels = new ByteBuffer[mipCount];
+        long offset = (long) start + 64 + keyValueBytes;
+        for(int i = 0; i < mipCount; i++)
+        {
+            if(offset + 4 > b.limit())
+                throw new IOException("KTX texture is truncated");
+
+            int size = b.getInt((int) offset);
+            levels[i] = view(b, offset + 4, size);
+
+            //levels are padded to 4 bytes
+            offset += 4 + ((size + 3L) & ~3L);
+        }
+
+        return new CompressedTexture(format, width, height, levels);
+    }
+
+
+    /**
+     * Checks the texture size is usable
+     * @param width texture width
+     * @param height texture height
+     * @param mipCount number of mip levels
+     * @throws IOException if the size is not valid
+     */
+    private static void checkSize(int width, int height, int mipCount) throws IOException
+    {
+        if(width <= 0 || height <= 0 || mipCount > 32)
+            throw new IOException("Bad texture size " + width + "x" + height + " with " + mipCount + " levels");
+    }
+
+    /**
+     * Gets the byte size of a level of an S3TC texture
+     * @param format the GL compressed format
+     * @param width the level width
+     * @param height the level height
+     * @return the size in bytes
+     */
+    private static int blockLevelSize(int format, int width, int height)
+    {
+        int blockBytes = format == GL.GL_COMPRESSED_RGB_S3TC_DXT1_EXT
+                || format == GL.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT
+                || format == GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1_EXT ? 8 : 16;
+        return ((width + 3) / 4) * ((height + 3) / 4) * blockBytes;
+    }
+
+    /**
+     * Gets a view of part of a buffer without copying
+     * @param b the buffer
+     * @param offset start of the view
+     * @param size bytes in the view
+     * @return the view
+     * @throws IOException if the view is outside the buffer
+     */
+    private static ByteBuffer view(ByteBuffer b, long offset, int size) throws IOException
+    {
+        if(size < 0 || offset + size > b.limit())
+            throw new IOException("Texture data is truncated");
+
+        ByteBuffer level = b.duplicate();
+        level.limit((int) offset + size);
+        level.position((int) offset);
+        return level.slice();
+    }
+
+
+    /**
+     * Gets the GL compressed format
+     * @return the internal format
+     */
+    public int getInternalFormat()
+    {
+        return internalFormat;
+    }
+
+    /**
+     * Gets the width of the top level
+     * @return the width in pixels
+     */
+    public int getWidth()
+    {
+        return width;
+    }
+
+    /**
+     * Gets the height of the top level
+     * @return the height in pixels
+     */
+    public int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * Gets the number of mip levels
+     * @return the level count
+     */
+    public int getLevelCount()
+    {
+        return levels.length;
+    }
+
+    /**
+     * Gets the compressed data of a mip level
+     * @param level the level (0 = top)
+     * @return a view of the level data
+     */
+    public ByteBuffer getLevel(int level)
+    {
+        return levels[level].duplicate();
+    }
+
+
+    /**
+     * Creates a GL texture and uploads all mip levels
+     * @param gl
+     * @return the GL texture id
+     */
+    public int upload(GL gl)
+    {
+        int[] id = new int[1];
+        gl.glGenTextures(1, id, 0);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, id[0]);
+
+        for(int i = 0; i < levels.length; i++)
+        {
+            ByteBuffer level = levels[i].duplicate();
+            gl.glCompressedTexImage2D(GL.GL_TEXTURE_2D, i, internalFormat,
+                    Math.max(1, width >> i), Math.max(1, height >> i), 0, level.remaining(), level);
+        }
+
+        //files may not have every level down to 1x1
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAX_LEVEL, levels.length - 1);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER,
+                levels.length > 1 ? GL.GL_LINEAR_MIPMAP_LINEAR : GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER, GL.GL_LINEAR);
+
+        gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+        return id[0];
+    }
+}
@@ -3,12 +3,18 @@ import javax.media.opengl.GL;
 
 
 /**
- * Defines a renderable object
+ * Defines a renderable object.
+ * GLTextureable has default isUpdatable() and release() methods
+ * for implementations written before they were added.
  * @author Andrew
  */
 public interface GLRenderable
 {
     public void init(GL gl);
     public void update();
+    /** @return true if update() does any work - false if it can be skipped */
+    public boolean isUpdatable();
     public void draw(GL gl);
+    /** Frees any GL resources created by init */
+    public void release(GL gl);
 }
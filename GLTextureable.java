@@ -16,12 +16,17 @@ import javax.media.opengl.GLException;
  */
 public abstract class GLTextureable implements GLRenderable
 {
+    /** Logger for texture loading errors */
+    private static final Logger LOGGER = Logger.getLogger(GLTextureable.class.getName());
 
     /* Texture object to load */
     private Texture texture;
     
     /** The filename of the texture to bind */
     private String fileName;
+
+    /** GL texture id of a KTX or DDS texture (0 if none) */
+    private int compressedTexture;
     
     /**
      * Creates default GLTexturable object
@@ -29,6 +34,19 @@ public abstract class GLTextureable implements GLRenderable
     public GLTextureable()
     {
         texture = null;
+        compressedTexture = 0;
+    }
+
+
+    /**
+     * Checks if update() does any work.
+     * Defaults to true so older subclasses keep being updated -
+     * override to return false if update() does nothing.
+     * @return true if update() needs to be called
+     */
+    public boolean isUpdatable()
+    {
+        return true;
     }
 
 
@@ -47,7 +65,7 @@ public abstract class GLTextureable implements GLRenderable
      */
     public boolean textureLoaded()
     {
-        return texture != null;
+        return texture != null || compressedTexture != 0;
     }
 
     /**
@@ -56,13 +74,20 @@ public abstract class GLTextureable implements GLRenderable
      */
     public void bindTexture(GL gl)
     {
-        if(texture != null)
+        if(textureLoaded())
         {
             gl.glEnable (GL.GL_BLEND);
             gl.glBlendFunc (GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
             gl.glEnable(GL.GL_TEXTURE_2D);
-            texture.enable();
-            texture.bind();
+            if(texture != null)
+            {
+                texture.enable();
+                texture.bind();
+            }
+            else
+            {
+                gl.glBindTexture(GL.GL_TEXTURE_2D, compressedTexture);
+            }
         }
     }
 
@@ -73,12 +98,36 @@ public abstract class GLTextureable implements GLRenderable
      */
     public void unbindTexture(GL gl)
     {
-        if(texture != null)
+        if(textureLoaded())
         {
             gl.glDisable(GL.GL_TEXTURE_2D);
             gl.glBlendFunc (GL.GL_ONE, GL.GL_ZERO);
             gl.glDisable (GL.GL_BLEND);
-            texture.disable();
+            if(texture != null)
+                texture.disable();
+            else
+                gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+        }
+    }
+
+
+
+    /**
+     * Frees the texture
+     * @param gl
+     */
+    public void release(GL gl)
+    {
+        if(texture != null)
+        {
+            texture.dispose();
+            texture = null;
+        }
+
+        if(compressedTexture != 0)
+        {
+            gl.glDeleteTextures(1, new int[]{compressedTexture}, 0);
+            compressedTexture = 0;
         }
     }
 
@@ -92,16 +141,19 @@ public abstract class GLTextureable implements GLRenderable
     {
         try
         {
-            if(fileName != null)
+            //pre-compressed textures are uploaded as they are stored
+            if(fileName != null && CompressedTexture.isCompressedFile(fileName))
+                compressedTexture = CompressedTexture.load(fileName).upload(gl);
+            else if(fileName != null)
                 texture = TextureIO.newTexture(new File(fileName), false);
         }
         catch (IOException ex)
         {
-            Logger.getLogger(GLTextureable.class.getName()).log(Level.SEVERE, null, ex);
+            LOGGER.log(Level.SEVERE, null, ex);
         }
         catch (GLException ex)
         {
-            Logger.getLogger(GLTextureable.class.getName()).log(Level.SEVERE, null, ex);
+            LOGGER.log(Level.SEVERE, null, ex);
         }
     }
 
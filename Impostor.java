@@ -0,0 +1,425 @@
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.media.opengl.GL;
+
+
+
+/**
+ * Draws a node subtree as a single camera facing textured quad.
+ * The subtree is rendered into an offscreen texture and the texture is
+ * reused until the subtree changes or the view moves too far from
+ * where it was rendered.
+ * @author Andrew
+ */
+class Impostor
+{
+    /** Logger for framebuffer errors */
+    private static final Logger LOGGER = Logger.getLogger(Impostor.class.getName());
+
+    /** Closest eye distance to use the impostor at */
+    private final float activationDistance;
+    /** Cosine of the largest view angle change before re-rendering */
+    private final float cosMaxAngle;
+    /** Largest change in eye distance (as a fraction) before re-rendering */
+    private final float maxDistanceChange;
+    /** Size of the offscreen texture in pixels */
+    private final int size;
+
+    /** Offscreen framebuffer, colour texture and depth buffer */
+    private int framebuffer;
+    private int texture;
+    private int depthbuffer;
+
+    /** True if the framebuffer could not be made */
+    private boolean unsupported;
+    /** True if the texture holds an image of the subtree */
+    private boolean hasImage;
+    /** True if the image still matches the subtree */
+    private boolean valid;
+    /** True while the subtree is being rendered into the texture */
+    private boolean rendering;
+
+    /** Object space view direction and up when the image was rendered */
+    private final float[] capturedDir;
+    private final float[] capturedUp;
+    /** Eye distance when the image was rendered */
+    private float capturedDistance;
+
+    /** Current modelview matrix of the node */
+    private final float[] modelview;
+    /** Matrix the subtree is rendered into the texture with */
+    private final float[] captureMatrix;
+    /** Eye space axes of the quad and its object space versions */
+    private final float[] xAxis;
+    private final float[] yAxis;
+    private final float[] zAxis;
+    private final float[] dir;
+    private final float[] up;
+    /** Temporary GL state */
+    private final int[] state;
+
+
+
+    /**
+     * Creates a new impostor
+     * @param activationDistance closest eye distance to use the impostor at
+     * @param maxAngle largest view angle change in degrees before re-rendering
+     * @param maxDistanceChange largest eye distance change (as a fraction) before re-rendering
+     * @param size size of the offscreen texture in pixels
+     */
+    Impostor(float activationDistance, float maxAngle, float maxDistanceChange, int size)
+    {
+        this.activationDistance = activationDistance;
+        this.cosMaxAngle = (float) Math.cos(Math.toRadians(maxAngle));
+        this.maxDistanceChange = maxDistanceChange;
+        this.size = size;
+
+        framebuffer = 0;
+        texture = 0;
+        depthbuffer = 0;
+        unsupported = false;
+        hasImage = false;
+        valid = false;
+        rendering = false;
+
+        capturedDir = new float[3];
+        capturedUp = new float[3];
+        modelview = new float[16];
+        captureMatrix = new float[16];
+        xAxis = new float[3];
+        yAxis = new float[3];
+        zAxis = new float[3];
+        dir = new float[3];
+        up = new float[3];
+        state = new int[4];
+    }
+
+
+    /**
+     * Marks the image as out of date
+     */
+    void invalidate()
+    {
+        valid = false;
+    }
+
+    /**
+     * Frees the offscreen framebuffer and texture
+     * @param gl
+     */
+    void release(GL gl)
+    {
+        if(framebuffer != 0)
+        {
+            state[0] = framebuffer;
+            gl.glDeleteFramebuffersEXT(1, state, 0);
+            state[0] = depthbuffer;
+            gl.glDeleteRenderbuffersEXT(1, state, 0);
+            state[0] = texture;
+            gl.glDeleteTextures(1, state, 0);
+        }
+
+        framebuffer = 0;
+        texture = 0;
+        depthbuffer = 0;
+        hasImage = false;
+        valid = false;
+    }
+
+
+    /**
+     * Draws the impostor of a node if it is far enough away.
+     * The eye space transform is the scene view matrix times the node
+     * global transform, so the matrix stack is not read back.
+     * @param gl
+     * @param node the node to draw
+     * @return true if drawn - false if the node should be drawn normally
+     */
+    boolean draw(GL gl, Node node)
+    {
+        float radius = node.getBoundingRadius();
+        if(unsupported || radius <= 0.0f)
+            return false;
+
+        Scene scene = node.getScene();
+        if(scene != null)
+            multiply(scene.getViewMatrix(), node.getNodeGlobalTransform(), modelview);
+        else
+            System.arraycopy(node.getNodeGlobalTransform(), 0, modelview, 0, 16);
+
+        float tx = modelview[12], ty = modelview[13], tz = modelview[14];
+        float distance = (float) Math.sqrt(tx * tx + ty * ty + tz * tz);
+        if(distance < activationDistance || distance == 0.0f)
+            return false;
+
+        float scale = (float) Math.sqrt(modelview[0] * modelview[0] + modelview[1] * modelview[1] + modelview[2] * modelview[2]);
+        float eyeRadius = radius * scale;
+
+        //quad faces along the ray from the eye to the node
+        zAxis[0] = -tx / distance; zAxis[1] = -ty / distance; zAxis[2] = -tz / distance;
+        if(Math.abs(zAxis[1]) < 0.99f)
+            cross(0.0f, 1.0f, 0.0f, zAxis, xAxis);
+        else
+            cross(1.0f, 0.0f, 0.0f, zAxis, xAxis);
+        normalize(xAxis);
+        cross(zAxis[0], zAxis[1], zAxis[2], xAxis, yAxis);
+
+        //view direction and up in object space
+        toObjectSpace(zAxis, scale, dir);
+        toObjectSpace(yAxis, scale, up);
+
+        boolean withinTolerance = hasImage
+                && dot(dir, capturedDir) >= cosMaxAngle
+                && dot(up, capturedUp) >= cosMaxAngle
+                && Math.abs(distance - capturedDistance) <= maxDistanceChange * capturedDistance;
+
+        if(!valid || !withinTolerance)
+        {
+            if(scene == null || scene.impostorTimeLeft())
+            {
+                long start = System.nanoTime();
+                render(gl, node, eyeRadius);
+                if(scene != null)
+                    scene.impostorTimeUsed(System.nanoTime() - start);
+
+                if(unsupported)
+                    return false;
+
+                System.arraycopy(dir, 0, capturedDir, 0, 3);
+                System.arraycopy(up, 0, capturedUp, 0, 3);
+                capturedDistance = distance;
+                hasImage = true;
+                valid = true;
+            }
+            else if(!hasImage || !valid)
+            {
+                //out of time this frame and the old image is wrong
+                return false;
+            }
+        }
+
+        drawQuad(gl, node.getShaderProgram(), tx, ty, tz, eyeRadius);
+        return true;
+    }
+
+
+    /**
+     * Renders the subtree into the offscreen texture
+     * @param gl
+     * @param node the node to render
+     * @param eyeRadius radius of the node in eye space
+     */
+    private void render(GL gl, Node node, float eyeRadius)
+    {
+        int previousFramebuffer = outerFramebuffer(node);
+        if(framebuffer == 0 && !createFramebuffer(gl, previousFramebuffer))
+            return;
+
+        //rotate the eye space so the ray to the node is -z and move the node to (0, 0, -r)
+        for(int col = 0; col < 3; col++)
+        {
+            float mx = modelview[col * 4], my = modelview[col * 4 + 1], mz = modelview[col * 4 + 2];
+            captureMatrix[col * 4] = xAxis[0] * mx + xAxis[1] * my + xAxis[2] * mz;
+            captureMatrix[col * 4 + 1] = yAxis[0] * mx + yAxis[1] * my + yAxis[2] * mz;
+            captureMatrix[col * 4 + 2] = zAxis[0] * mx + zAxis[1] * my + zAxis[2] * mz;
+            captureMatrix[col * 4 + 3] = 0.0f;
+        }
+        captureMatrix[12] = 0.0f;
+        captureMatrix[13] = 0.0f;
+        captureMatrix[14] = -eyeRadius;
+        captureMatrix[15] = 1.0f;
+
+        gl.glPushAttrib(GL.GL_VIEWPORT_BIT | GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+        gl.glBindFramebufferEXT(GL.GL_FRAMEBUFFER_EXT, framebuffer);
+        gl.glViewport(0, 0, size, size);
+        gl.glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+
+        gl.glMatrixMode(GL.GL_PROJECTION);
+        gl.glPushMatrix();
+        gl.glLoadIdentity();
+        gl.glOrtho(-eyeRadius, eyeRadius, -eyeRadius, eyeRadius, 0.0, 2.0 * eyeRadius);
+
+        gl.glMatrixMode(GL.GL_MODELVIEW);
+        gl.glPushMatrix();
+        gl.glLoadMatrixf(captureMatrix, 0);
+
+        rendering = true;
+        node.drawContents(gl);
+        rendering = false;
+
+        gl.glPopMatrix();
+        gl.glMatrixMode(GL.GL_PROJECTION);
+        gl.glPopMatrix();
+        gl.glMatrixMode(GL.GL_MODELVIEW);
+
+        gl.glBindFramebufferEXT(GL.GL_FRAMEBUFFER_EXT, previousFramebuffer);
+        gl.glPopAttrib();
+    }
+
+    /**
+     * Gets the framebuffer the subtree of a node is drawn into.
+     * Read from the impostors above instead of GL so drawing never waits for GL.
+     * @param node the node
+     * @return the framebuffer of an impostor above that is rendering - or 0 (the window)
+     */
+    private static int outerFramebuffer(Node node)
+    {
+        for(Node n = node.getParentNode(); n != null; n = n.getParentNode())
+        {
+            Impostor outer = n.getImpostor();
+            if(outer != null && outer.rendering)
+                return outer.framebuffer;
+        }
+        return 0;
+    }
+
+    /**
+     * Draws the textured quad in eye space
+     * @param gl
+     * @param program the shader program in use (turned off while drawing)
+     * @param cx eye space centre x
+     * @param cy eye space centre y
+     * @param cz eye space centre z
+     * @param r half size of the quad
+     */
+    private void drawQuad(GL gl, int program, float cx, float cy, float cz, float r)
+    {
+        if(program > 0)
+            gl.glUseProgram(0);
+
+        gl.glPushAttrib(GL.GL_ENABLE_BIT | GL.GL_COLOR_BUFFER_BIT | GL.GL_CURRENT_BIT | GL.GL_TEXTURE_BIT);
+        gl.glDisable(GL.GL_LIGHTING);
+        gl.glEnable(GL.GL_ALPHA_TEST);
+        gl.glAlphaFunc(GL.GL_GREATER, 0.5f);
+        gl.glEnable(GL.GL_TEXTURE_2D);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, texture);
+
+        gl.glPushMatrix();
+        gl.glLoadIdentity();
+
+        float rx = xAxis[0] * r, ry = xAxis[1] * r, rz = xAxis[2] * r;
+        float ux = yAxis[0] * r, uy = yAxis[1] * r, uz = yAxis[2] * r;
+
+        gl.glBegin(GL.GL_TRIANGLE_FAN);
+                gl.glColor3f(1.0f, 1.0f, 1.0f);
+                gl.glNormal3f(zAxis[0], zAxis[1], zAxis[2]);
+
+                gl.glTexCoord2f(0.0f, 1.0f);
+                gl.glVertex3f(cx - rx + ux, cy - ry + uy, cz - rz + uz);
+                gl.glTexCoord2f(1.0f, 1.0f);
+                gl.glVertex3f(cx + rx + ux, cy + ry + uy, cz + rz + uz);
+                gl.glTexCoord2f(1.0f, 0.0f);
+                gl.glVertex3f(cx + rx - ux, cy + ry - uy, cz + rz - uz);
+                gl.glTexCoord2f(0.0f, 0.0f);
+                gl.glVertex3f(cx - rx - ux, cy - ry - uy, cz - rz - uz);
+        gl.glEnd();
+
+        gl.glPopMatrix();
+        gl.glPopAttrib();
+
+        if(program > 0)
+            gl.glUseProgram(program);
+    }
+
+    /**
+     * Creates the offscreen framebuffer
+     * @param gl
+     * @param previousFramebuffer the framebuffer to bind again afterwards
+     * @return true if it was created - false if not supported
+     */
+    private boolean createFramebuffer(GL gl, int previousFramebuffer)
+    {
+        gl.glGenTextures(1, state, 0);
+        texture = state[0];
+        gl.glBindTexture(GL.GL_TEXTURE_2D, texture);
+        gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA8, size, size, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, null);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER, GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER, GL.GL_LINEAR);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+
+        gl.glGenRenderbuffersEXT(1, state, 0);
+        depthbuffer = state[0];
+        gl.glBindRenderbufferEXT(GL.GL_RENDERBUFFER_EXT, depthbuffer);
+        gl.glRenderbufferStorageEXT(GL.GL_RENDERBUFFER_EXT, GL.GL_DEPTH_COMPONENT24, size, size);
+        gl.glBindRenderbufferEXT(GL.GL_RENDERBUFFER_EXT, 0);
+
+        gl.glGenFramebuffersEXT(1, state, 0);
+        framebuffer = state[0];
+        gl.glBindFramebufferEXT(GL.GL_FRAMEBUFFER_EXT, framebuffer);
+        gl.glFramebufferTexture2DEXT(GL.GL_FRAMEBUFFER_EXT, GL.GL_COLOR_ATTACHMENT0_EXT, GL.GL_TEXTURE_2D, texture, 0);
+        gl.glFramebufferRenderbufferEXT(GL.GL_FRAMEBUFFER_EXT, GL.GL_DEPTH_ATTACHMENT_EXT, GL.GL_RENDERBUFFER_EXT, depthbuffer);
+        int status = gl.glCheckFramebufferStatusEXT(GL.GL_FRAMEBUFFER_EXT);
+        gl.glBindFramebufferEXT(GL.GL_FRAMEBUFFER_EXT, previousFramebuffer);
+
+        if(status != GL.GL_FRAMEBUFFER_COMPLETE_EXT)
+        {
+            LOGGER.log(Level.SEVERE, "Impostor framebuffer is not complete");
+            release(gl);
+            unsupported = true;
+            return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Rotates an eye space direction into object space
+     * @param v the eye space direction
+     * @param scale the modelview scale
+     * @param out the object space direction
+     */
+    private void toObjectSpace(float[] v, float scale, float[] out)
+    {
+        for(int i = 0; i < 3; i++)
+            out[i] = (modelview[i * 4] * v[0] + modelview[i * 4 + 1] * v[1] + modelview[i * 4 + 2] * v[2]) / scale;
+    }
+
+    /**
+     * Multiplies two column major matrices
+     * @param a first matrix
+     * @param b second matrix
+     * @param out a times b
+     */
+    private static void multiply(float[] a, float[] b, float[] out)
+    {
+        for(int col = 0; col < 4; col++)
+        {
+            for(int row = 0; row < 4; row++)
+            {
+                out[col * 4 + row] = a[row] * b[col * 4] + a[row + 4] * b[col * 4 + 1]
+                        + a[row + 8] * b[col * 4 + 2] + a[row + 12] * b[col * 4 + 3];
+            }
+        }
+    }
+
+    /**
+     * Cross product of (ax, ay, az) and b
+     */
+    private static void cross(float ax, float ay, float az, float[] b, float[] out)
+    {
+        out[0] = ay * b[2] - az * b[1];
+        out[1] = az * b[0] - ax * b[2];
+        out[2] = ax * b[1] - ay * b[0];
+    }
+
+    /**
+     * Dot product of a and b
+     */
+    private static float dot(float[] a, float[] b)
+    {
+        return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+    }
+
+    /**
+     * Makes a vector unit length
+     */
+    private static void normalize(float[] v)
+    {
+        float length = (float) Math.sqrt(dot(v, v));
+        v[0] /= length;
+        v[1] /= length;
+        v[2] /= length;
+    }
+}
@@ -1,5 +1,6 @@
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import javax.media.opengl.GL;
 
 
@@ -10,6 +11,8 @@ import javax.media.opengl.GL;
  */
 public class Node
 {
+    /** Node classes checked for an update() override */
+    private static final HashMap<Class<?>, Boolean> OVERRIDES_UPDATE = new HashMap<Class<?>, Boolean>();
 
     /** Name of this node */
     private String nodeName;
@@ -33,6 +36,52 @@ public class Node
     /** True when transformation matrix is needed to be recalculated */
     private boolean recalculateTransformMatrix;
 
+    /** True if the last preDraw sent the transform as a shader uniform */
+    private boolean transformInUniform;
+
+    /** Model matrix location not looked up yet */
+    private static final int UNKNOWN_LOCATION = -2;
+    /** Model matrix uniform location from the parent shader (see getModelMatrixLocation) */
+    private int modelMatrixLocation;
+
+    /** The scene this node is attached to (null if not attached to a scene) */
+    private Scene scene;
+
+    /** Index of this node in the scene active update list (-1 if not in list) */
+    int activeIndex;
+
+    /** Id of this node in its scene (used by scene deltas) */
+    int nodeId;
+    /** Changes to this node not yet written to a scene delta */
+    int deltaFlags;
+    /** Scene whose delta list this node is in (null if not in a delta list) */
+    Scene deltaScene;
+
+    /** Index of this node in the scene occluder list (-1 if not in list) */
+    int occluderIndex;
+
+    /** Radius of a sphere around this node that contains its whole subtree (0 = no bounds) */
+    private float boundingRadius;
+    /** Half sizes of the solid box this node occludes with (null if not an occluder) */
+    private float[] occluderExtents;
+
+    /** Draws this subtree as a single quad when far away (null if not used) */
+    private Impostor impostor;
+
+    /** Only update every n frames (1 = every frame) */
+    private int updateFrameInterval;
+    /** Minimum time between updates in nanoseconds (0 = no limit) */
+    private long updateTimeInterval;
+    /** Offset used to spread updates of nodes with the same interval */
+    private int updatePhase;
+    /** Time of the last scheduled update in nanoseconds */
+    private long lastUpdateTime;
+
+    /** True if this node class overrides update() instead of updateSelf() */
+    private final boolean legacyUpdate;
+    /** True while the scene updates this node without its children */
+    private boolean updatingSelfOnly;
+
 
 
     /**
@@ -55,6 +104,21 @@ public class Node
         temp = new float[16];
 
         recalculateTransformMatrix = true;
+        modelMatrixLocation = UNKNOWN_LOCATION;
+
+        scene = null;
+        activeIndex = -1;
+        occluderIndex = -1;
+        nodeId = -1;
+        deltaFlags = 0;
+        deltaScene = null;
+        boundingRadius = 0.0f;
+        occluderExtents = null;
+        impostor = null;
+        updateFrameInterval = 1;
+        updateTimeInterval = 0;
+        legacyUpdate = overridesUpdate(getClass());
+        updatingSelfOnly = false;
     }
 
     /**
@@ -74,10 +138,47 @@ public class Node
      * node and children nodes
      */
     protected void setRecalculateTransformMatrix()
+    {
+        //local transformation changed
+        if(scene != null)
+            scene.transformChanged(this);
+
+        invalidateTransformMatrix();
+        invalidateImpostors();
+    }
+
+    /**
+     * Marks the impostors of this node and parent nodes as out of date
+     */
+    private void invalidateImpostors()
+    {
+        for(Node n = this; n != null; n = n.parentNode)
+        {
+            if(n.impostor != null)
+                n.impostor.invalidate();
+        }
+    }
+
+    /**
+     * Marks the transformation matrix of this node and
+     * children nodes as out of date
+     */
+    private void invalidateTransformMatrix()
     {
         this.recalculateTransformMatrix = true;
-        for(Node c : childrenNodes)
-            c.setRecalculateTransformMatrix();
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).invalidateTransformMatrix();
+    }
+
+    /**
+     * Makes this node and children nodes look up the model matrix
+     * location again (after moving or when a shader changes it)
+     */
+    void invalidateModelMatrixLocation()
+    {
+        modelMatrixLocation = UNKNOWN_LOCATION;
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).invalidateModelMatrixLocation();
     }
 
 
@@ -91,10 +192,20 @@ public class Node
     {
         boolean success = false;
 
+        //moving within the same scene keeps it registered with the scene
+        boolean move = scene != null && child.parentNode != null && child.scene == scene;
+
         //if it has a parent already - remove it from the parent
         if(child.parentNode != null)
         {
-            child.parentNode.removeChild(child);
+            if(move)
+            {
+                //the old parent images still show the child
+                child.parentNode.childrenNodes.remove(child);
+                child.parentNode.invalidateImpostors();
+            }
+            else
+                child.parentNode.removeChild(child);
         }
 
         //now add it to this child
@@ -102,7 +213,17 @@ public class Node
         {
             child.parentNode = this;
             //recalculate because changed parent
-            child.setRecalculateTransformMatrix();
+            child.invalidateTransformMatrix();
+            child.invalidateModelMatrixLocation();
+
+            //register the new subtree with the scene
+            if(move)
+                scene.nodeReparented(child);
+            else if(scene != null)
+                child.attachToScene(scene);
+
+            invalidateImpostors();
+
             success = true;
         }
 
@@ -116,7 +237,296 @@ public class Node
      */
     public boolean removeChild(Node child)
     {
-        return childrenNodes.remove(child);
+        boolean removed = childrenNodes.remove(child);
+
+        if(removed)
+        {
+            invalidateImpostors();
+            child.invalidateModelMatrixLocation();
+        }
+
+        if(removed && child.scene != null)
+        {
+            child.scene.nodeRemoved(child);
+            child.detachFromScene();
+        }
+
+        return removed;
+    }
+
+
+    /**
+     * Attaches this node and children nodes to a scene
+     * @param s the scene this node is now part of
+     */
+    void attachToScene(Scene s)
+    {
+        scene = s;
+        scene.nodeAttached(this);
+        refreshUpdateRegistration();
+        if(occluderExtents != null)
+            scene.registerOccluder(this);
+        attachedToScene();
+
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).attachToScene(s);
+    }
+
+    /**
+     * Detaches this node and children nodes from their scene
+     */
+    void detachFromScene()
+    {
+        detachingFromScene();
+        if(activeIndex >= 0)
+            scene.unregisterActive(this);
+        if(occluderIndex >= 0)
+            scene.unregisterOccluder(this);
+        scene = null;
+        nodeId = -1;
+        deltaFlags = 0;
+
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).detachFromScene();
+    }
+
+    /**
+     * Called after this node is attached to a scene
+     */
+    protected void attachedToScene()
+    {
+    }
+
+    /**
+     * Called before this node is detached from its scene
+     */
+    protected void detachingFromScene()
+    {
+    }
+
+    /**
+     * Gets the name of this node
+     * @return the node name
+     */
+    public String getNodeName()
+    {
+        return nodeName;
+    }
+
+    /**
+     * Gets the parent of this node
+     * @return the parent node - or null if not attached
+     */
+    public Node getParentNode()
+    {
+        return parentNode;
+    }
+
+    /**
+     * Gets the number of children nodes
+     * @return the number of children
+     */
+    public int getChildCount()
+    {
+        return childrenNodes.size();
+    }
+
+    /**
+     * Gets a child node
+     * @param index the index of the child
+     * @return the child node
+     */
+    public Node getChild(int index)
+    {
+        return childrenNodes.get(index);
+    }
+
+    /**
+     * Gets the scene this node is attached to
+     * @return the scene - or null if not attached to a scene
+     */
+    public Scene getScene()
+    {
+        return scene;
+    }
+
+
+    /**
+     * Checks if this node has update logic that needs to run.
+     * Subclasses that override updateSelf() should also override this
+     * so the scene puts them in its active update list.
+     * Subclasses that override update() are always in the list.
+     * @return true if this node needs to be updated - false if not.
+     */
+    protected boolean needsUpdate()
+    {
+        //this node does nothing unless it is an older node with its own update()
+        return legacyUpdate;
+    }
+
+    /**
+     * Checks if a node class overrides update()
+     * @param c the node class
+     * @return true if update() is overridden
+     */
+    private static boolean overridesUpdate(Class<?> c)
+    {
+        synchronized(OVERRIDES_UPDATE)
+        {
+            Boolean overrides = OVERRIDES_UPDATE.get(c);
+            if(overrides == null)
+            {
+                try
+                {
+                    overrides = Boolean.valueOf(c.getMethod("update").getDeclaringClass() != Node.class);
+                }
+                catch (NoSuchMethodException ex)
+                {
+                    overrides = Boolean.FALSE;
+                }
+                OVERRIDES_UPDATE.put(c, overrides);
+            }
+            return overrides.booleanValue();
+        }
+    }
+
+    /**
+     * Adds or removes this node from the scene active update list.
+     * Call this whenever the result of needsUpdate() changes.
+     */
+    protected void refreshUpdateRegistration()
+    {
+        if(scene == null)
+            return;
+
+        boolean active = needsUpdate();
+        if(active && activeIndex < 0)
+        {
+            scene.registerActive(this);
+
+            //spread nodes with the same rate across frames
+            updatePhase = activeIndex;
+            lastUpdateTime = System.nanoTime() - (updatePhase % 8) * (updateTimeInterval / 8);
+        }
+        else if(!active && activeIndex >= 0)
+        {
+            scene.unregisterActive(this);
+        }
+    }
+
+    /**
+     * Sets how often the scene updates this node
+     * @param frames update every n frames (1 = every frame)
+     */
+    public void setUpdateFrameInterval(int frames)
+    {
+        updateFrameInterval = Math.max(1, frames);
+    }
+
+    /**
+     * Sets the minimum time between scene updates of this node
+     * @param millis milliseconds between updates (0 = no limit)
+     */
+    public void setUpdateTimeInterval(long millis)
+    {
+        updateTimeInterval = Math.max(0L, millis) * 1000000L;
+    }
+
+
+    /**
+     * Sets the bounding sphere radius of this node.
+     * The sphere is centered on this node and must contain all children
+     * nodes, since the whole subtree is skipped when it is hidden.
+     * @param radius the radius in local units (0 = never culled)
+     */
+    public void setBoundingRadius(float radius)
+    {
+        this.boundingRadius = radius;
+    }
+
+    /**
+     * Gets the bounding sphere radius of this node
+     * @return the radius in local units (0 = no bounds)
+     */
+    public float getBoundingRadius()
+    {
+        return boundingRadius;
+    }
+
+    /**
+     * Makes this node an occluder.
+     * The box is centered on this node and should be fully solid.
+     * @param halfX half the box size on the x axis
+     * @param halfY half the box size on the y axis
+     * @param halfZ half the box size on the z axis
+     */
+    public void setOccluder(float halfX, float halfY, float halfZ)
+    {
+        if(occluderExtents == null)
+        {
+            occluderExtents = new float[3];
+            if(scene != null)
+                scene.registerOccluder(this);
+        }
+
+        occluderExtents[0] = halfX;
+        occluderExtents[1] = halfY;
+        occluderExtents[2] = halfZ;
+    }
+
+    /**
+     * Stops this node from being an occluder
+     */
+    public void clearOccluder()
+    {
+        if(occluderIndex >= 0)
+            scene.unregisterOccluder(this);
+        occluderExtents = null;
+    }
+
+    /**
+     * Draws this subtree as a single camera facing quad when it is far away.
+     * The subtree is rendered into a texture which is reused until the
+     * subtree changes or the view moves too far from where it was rendered.
+     * Needs a bounding radius. The scene must be drawn into the window
+     * framebuffer (images are rendered and then that framebuffer is bound again).
+     * @param activationDistance closest eye distance to use the quad at
+     * @param maxAngle largest change in view angle (degrees) before rendering again
+     * @param maxDistanceChange largest change in eye distance (fraction) before rendering again
+     * @param textureSize size of the texture in pixels
+     */
+    public void setImpostor(float activationDistance, float maxAngle, float maxDistanceChange, int textureSize)
+    {
+        impostor = new Impostor(activationDistance, maxAngle, maxDistanceChange, textureSize);
+    }
+
+    /**
+     * Stops drawing this subtree as a quad and frees the texture
+     * @param gl
+     */
+    public void removeImpostor(GL gl)
+    {
+        if(impostor != null)
+            impostor.release(gl);
+        impostor = null;
+    }
+
+    /**
+     * Gets the impostor of this node
+     * @return the impostor - or null if not drawn as an impostor
+     */
+    Impostor getImpostor()
+    {
+        return impostor;
+    }
+
+    /**
+     * Gets the occluder box of this node
+     * @return the box half sizes - or null if not an occluder
+     */
+    float[] getOccluderExtents()
+    {
+        return occluderExtents;
     }
 
 
@@ -190,6 +600,34 @@ public class Node
     }
 
 
+    /**
+     * Gets the local scale (do not modify)
+     * @return x, y and z scale
+     */
+    float[] getLocalScale()
+    {
+        return scale;
+    }
+
+    /**
+     * Gets the local translation (do not modify)
+     * @return x, y and z translation
+     */
+    float[] getLocalTranslation()
+    {
+        return translation;
+    }
+
+    /**
+     * Gets the local rotation (do not modify)
+     * @return degrees and x, y and z axis
+     */
+    float[] getLocalRotation()
+    {
+        return rotation;
+    }
+
+
     /**
      * Sets the identify matrix
      * @param matrix the matrix to reset
@@ -287,20 +725,87 @@ public class Node
         //inits position
         getNodeGlobalTransform();
 
-        for(Node n : childrenNodes)
-            n.init(gl);
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).init(gl);
+    }
+
+
+    /**
+     * Frees GL resources of this node.
+     * Also releases children nodes
+     * @param gl
+     */
+    public void release(GL gl)
+    {
+        if(impostor != null)
+            impostor.release(gl);
+
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).release(gl);
     }
 
 
     /**
      * Updates this node.
-     * Also updates children nodes
+     * Also updates children nodes.
+     * New nodes should override updateSelf() and needsUpdate() instead -
+     * overrides of this are still called by the scene every frame.
      */
     public void update()
     {
-        //this node does nothing so update children nodes
-        for(Node n : childrenNodes)
-            n.update();
+        updateSelf();
+
+        //children in the active update list are updated by the scene
+        if(updatingSelfOnly)
+            return;
+
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).update();
+    }
+
+    /**
+     * Updates only this node (not children nodes)
+     */
+    protected void updateSelf()
+    {
+        //this node does nothing
+    }
+
+    /**
+     * Updates this node if its update rate allows it this frame.
+     * Called by the scene for nodes in the active update list
+     * @param frame the scene frame number
+     * @param now the current time in nanoseconds
+     */
+    void scheduledUpdate(long frame, long now)
+    {
+        if(updateFrameInterval > 1 && (frame + updatePhase) % updateFrameInterval != 0)
+            return;
+
+        if(updateTimeInterval > 0)
+        {
+            if(now - lastUpdateTime < updateTimeInterval)
+                return;
+            lastUpdateTime = now;
+        }
+
+        if(legacyUpdate)
+        {
+            //update() overrides call super.update() which would update children again
+            updatingSelfOnly = true;
+            try
+            {
+                update();
+            }
+            finally
+            {
+                updatingSelfOnly = false;
+            }
+        }
+        else
+        {
+            updateSelf();
+        }
     }
 
 
@@ -310,10 +815,21 @@ public class Node
      */
     protected void preDraw(GL gl)
     {
-        gl.glPushMatrix();
+        int location = getModelMatrixLocation();
+        transformInUniform = location >= 0;
 
-        //push transformation on stack
-        gl.glMultMatrixf(getNodeGlobalTransform(), 0);
+        if(transformInUniform)
+        {
+            //send transformation to the shader
+            gl.glUniformMatrix4fv(location, 1, false, getNodeGlobalTransform(), 0);
+        }
+        else
+        {
+            gl.glPushMatrix();
+
+            //push transformation on stack
+            gl.glMultMatrixf(getNodeGlobalTransform(), 0);
+        }
     }
 
     /**
@@ -322,7 +838,8 @@ public class Node
      */
     protected void postDraw(GL gl)
     {
-        gl.glPopMatrix();
+        if(!transformInUniform)
+            gl.glPopMatrix();
     }
 
     /**
@@ -331,15 +848,30 @@ public class Node
      */
     public void draw(GL gl)
     {
+        //skip the whole subtree if it is hidden
+        if(scene != null && scene.isOccluded(this))
+            return;
+
         preDraw(gl);
 
-        //this node does nothing so draw children nodes
-        for(Node n : childrenNodes)
-            n.draw(gl);
+        //impostors render the subtree with the matrix stack
+        if(impostor == null || transformInUniform || !impostor.draw(gl, this))
+            drawContents(gl);
 
         postDraw(gl);
     }
 
+    /**
+     * Draws what is in this node (between preDraw and postDraw)
+     * @param gl
+     */
+    protected void drawContents(GL gl)
+    {
+        //this node does nothing so draw children nodes
+        for(int i = 0; i < childrenNodes.size(); i++)
+            childrenNodes.get(i).draw(gl);
+    }
+
 
     /**
      * Gets the shader program of this node.
@@ -355,6 +887,20 @@ public class Node
         return 0;
     }
 
+    /**
+     * Gets the shader uniform location that the model matrix is sent to.
+     * If this is not a shader node then it will get the parent location.
+     * Default is -1 (use the matrix stack).
+     * The location is cached until this node moves or a shader above changes it.
+     * @return The uniform location
+     */
+    protected int getModelMatrixLocation()
+    {
+        if(modelMatrixLocation == UNKNOWN_LOCATION)
+            modelMatrixLocation = parentNode != null ? parentNode.getModelMatrixLocation() : -1;
+        return modelMatrixLocation;
+    }
+
     /**
      * toString method
      * @return String representation of this 
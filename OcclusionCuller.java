@@ -0,0 +1,674 @@
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+
+
+/**
+ * Software occlusion culler.
+ * Occluder boxes are drawn into a small depth buffer on the CPU each frame
+ * and node bounds are tested against a max depth mip chain of that buffer.
+ * Occluders are drawn conservatively (only pixels they completely cover,
+ * with the furthest depth inside each pixel) so nothing visible is culled.
+ * Does not use GL so it can be run without a GPU.
+ * @author Andrew
+ */
+public class OcclusionCuller
+{
+    /** Smallest clip w that is treated as in front of the camera */
+    private static final float NEAR_W = 0.0001f;
+
+    /** Corners of a box with half sizes of 1 */
+    private static final float[] BOX_CORNERS =
+    {
+        -1.0f, -1.0f, -1.0f,   1.0f, -1.0f, -1.0f,   1.0f, 1.0f, -1.0f,   -1.0f, 1.0f, -1.0f,
+        -1.0f, -1.0f,  1.0f,   1.0f, -1.0f,  1.0f,   1.0f, 1.0f,  1.0f,   -1.0f, 1.0f,  1.0f
+    };
+
+    /** Faces of a box (3 corner indices of each face) */
+    private static final int[] BOX_FACES =
+    {
+        0, 1, 2,
+        4, 6, 5,
+        0, 4, 5,
+        3, 2, 6,
+        0, 3, 7,
+        1, 5, 6
+    };
+
+    /** A corner not on each face (on the opposite face) */
+    private static final int[] OPPOSITE_CORNERS = {4, 0, 3, 0, 1, 0};
+
+    /** Floats per occluder: edge count, plane count, 8 edges and 6 planes (a, b, c each) and bounds */
+    private static final int OCCLUDER_SIZE = 2 + 8 * 3 + 6 * 3 + 4;
+    /** Offsets into an occluder */
+    private static final int EDGES = 2;
+    private static final int PLANES = EDGES + 8 * 3;
+    private static final int BOUNDS = PLANES + 6 * 3;
+
+    /** Size of the depth buffer in pixels */
+    private final int width;
+    private final int height;
+
+    /** Depth buffer (level 0) and max depth mip levels */
+    private final float[][] depth;
+    /** Width of each mip level */
+    private final int[] levelWidth;
+    /** Height of each mip level */
+    private final int[] levelHeight;
+
+    /** Combined projection and view matrix of the camera */
+    private final float[] viewProjection;
+
+    /** Clip space corners of the occluder being set up */
+    private final float[] corners;
+    /** Screen space corners (x, y and depth) of the occluder being set up */
+    private final float[] screen;
+    /** Corners sorted by x then y, then the outline corners */
+    private final int[] sorted;
+    private final int[] outline;
+
+    /**
+     * Screen space occluders ready to draw. Each has the edges of its outline
+     * (A * x + B * y + C >= 0 for pixels completely inside) and the depth planes
+     * of its front faces (a * x + b * y + c is the furthest depth in a pixel)
+     */
+    private float[] occluderData;
+    /** Number of occluders in occluderData */
+    private int occluderCount;
+
+    /** True if the depth buffer holds occluders this frame */
+    private boolean hasOccluders;
+
+    /** Number of horizontal bands the depth buffer is split into */
+    private final int bands;
+    /** Threads that rasterize bands 1 and up (null if single threaded) */
+    private final Thread[] workers;
+    /** Incremented each frame to start the workers */
+    private volatile int frame;
+    /** Number of bands not yet finished this frame */
+    private final AtomicInteger bandsLeft;
+    /** The thread waiting for the bands to finish */
+    private volatile Thread waiter;
+    /** True once the workers have been told to stop */
+    private volatile boolean disposed;
+
+
+
+    /**
+     * Creates a 256 x 128 culler using all processors
+     */
+    public OcclusionCuller()
+    {
+        this(256, 128, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new culler
+     * @param width width of the depth buffer
+     * @param height height of the depth buffer
+     * @param threads number of threads to rasterize with (1 = no extra threads)
+     */
+    public OcclusionCuller(int width, int height, int threads)
+    {
+        this.width = width;
+        this.height = height;
+
+        //work out how many mip levels there are
+        int levels = 1;
+        for(int w = width, h = height; w > 1 || h > 1; w = (w + 1) / 2, h = (h + 1) / 2)
+            levels++;
+
+        depth = new float[levels][];
+        levelWidth = new int[levels];
+        levelHeight = new int[levels];
+        for(int l = 0, w = width, h = height; l < levels; l++, w = (w + 1) / 2, h = (h + 1) / 2)
+        {
+            levelWidth[l] = w;
+            levelHeight[l] = h;
+            depth[l] = new float[w * h];
+        }
+
+        viewProjection = new float[16];
+        viewProjection[0] = 1.0f; viewProjection[5] = 1.0f; viewProjection[10] = 1.0f; viewProjection[15] = 1.0f;
+
+        corners = new float[32];
+        screen = new float[24];
+        sorted = new int[8];
+        outline = new int[17];
+        occluderData = new float[OCCLUDER_SIZE * 16];
+        occluderCount = 0;
+        hasOccluders = false;
+
+        bands = Math.max(1, Math.min(threads, height));
+        frame = 0;
+        bandsLeft = new AtomicInteger();
+        disposed = false;
+
+        //workers are parked between frames so starting a frame allocates nothing
+        if(bands > 1)
+        {
+            workers = new Thread[bands - 1];
+            for(int b = 1; b < bands; b++)
+            {
+                final int band = b;
+                Thread t = new Thread(new Runnable()
+                {
+                    public void run()
+                    {
+                        runWorker(band);
+                    }
+                }, "OcclusionCuller");
+                t.setDaemon(true);
+                workers[b - 1] = t;
+                t.start();
+            }
+        }
+        else
+        {
+            workers = null;
+        }
+    }
+
+
+    /**
+     * Sets the camera matrix that occluders and nodes are projected with
+     * @param matrix the column major projection * view matrix
+     */
+    public void setViewProjection(float[] matrix)
+    {
+        System.arraycopy(matrix, 0, viewProjection, 0, 16);
+    }
+
+    /**
+     * Sets the camera matrix from separate projection and view matrices
+     * @param projection the column major projection matrix
+     * @param view the column major view matrix
+     */
+    public void setViewProjection(float[] projection, float[] view)
+    {
+        for(int col = 0; col < 4; col++)
+        {
+            for(int row = 0; row < 4; row++)
+            {
+                viewProjection[col * 4 + row] =
+                        projection[row] * view[col * 4] + projection[row + 4] * view[col * 4 + 1] +
+                        projection[row + 8] * view[col * 4 + 2] + projection[row + 12] * view[col * 4 + 3];
+            }
+        }
+    }
+
+    /**
+     * Stops the rasterizer threads
+     */
+    public void dispose()
+    {
+        disposed = true;
+        if(workers != null)
+        {
+            for(int i = 0; i < workers.length; i++)
+                LockSupport.unpark(workers[i]);
+        }
+    }
+
+    /**
+     * Rasterizes one band each frame until disposed
+     * @param band the band this worker draws
+     */
+    private void runWorker(int band)
+    {
+        int lastFrame = 0;
+        while(!disposed)
+        {
+            int f = frame;
+            if(f == lastFrame)
+            {
+                LockSupport.park(this);
+                continue;
+            }
+
+            lastFrame = f;
+            try
+            {
+                rasterizeBand(band);
+            }
+            finally
+            {
+                bandDone();
+            }
+        }
+    }
+
+    /**
+     * Counts a finished band and wakes the waiting thread after the last one
+     */
+    private void bandDone()
+    {
+        if(bandsLeft.decrementAndGet() == 0)
+            LockSupport.unpark(waiter);
+    }
+
+
+    /**
+     * Builds the depth buffer and mip levels from the occluders
+     * @param occluders the nodes to draw into the depth buffer
+     */
+    public void rasterize(ArrayList<Node> occluders)
+    {
+        occluderCount = 0;
+        for(int i = 0; i < occluders.size(); i++)
+        {
+            Node n = occluders.get(i);
+            addOccluder(n.getNodeGlobalTransform(), n.getOccluderExtents());
+        }
+
+        hasOccluders = occluderCount > 0;
+        if(!hasOccluders)
+            return;
+
+        if(workers == null || disposed)
+        {
+            for(int b = 0; b < bands; b++)
+                rasterizeBand(b);
+        }
+        else
+        {
+            //start the workers on the other bands
+            waiter = Thread.currentThread();
+            bandsLeft.set(bands);
+            frame++;
+            for(int i = 0; i < workers.length; i++)
+                LockSupport.unpark(workers[i]);
+
+            try
+            {
+                rasterizeBand(0);
+            }
+            finally
+            {
+                bandDone();
+            }
+
+            //wait for the rest (workers still use the buffers so wait even if interrupted)
+            boolean interrupted = false;
+            while(bandsLeft.get() != 0)
+            {
+                LockSupport.park(this);
+                if(Thread.interrupted())
+                    interrupted = true;
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        buildMipLevels();
+    }
+
+
+    /**
+     * Projects an occluder box to the screen and works out its outline
+     * and front face depth planes
+     * @param m the occluder global transform
+     * @param extents the box half sizes
+     */
+    private void addOccluder(float[] m, float[] extents)
+    {
+        for(int i = 0; i < 8; i++)
+        {
+            float lx = BOX_CORNERS[i * 3] * extents[0];
+            float ly = BOX_CORNERS[i * 3 + 1] * extents[1];
+            float lz = BOX_CORNERS[i * 3 + 2] * extents[2];
+
+            float wx = m[0] * lx + m[4] * ly + m[8] * lz + m[12];
+            float wy = m[1] * lx + m[5] * ly + m[9] * lz + m[13];
+            float wz = m[2] * lx + m[6] * ly + m[10] * lz + m[14];
+
+            project(wx, wy, wz, corners, i * 4);
+
+            //boxes crossing the near plane are left out (never hides too much)
+            if(corners[i * 4 + 3] < NEAR_W)
+                return;
+
+            toScreen(corners, i * 4, screen, i * 3);
+        }
+
+        if((occluderCount + 1) * OCCLUDER_SIZE > occluderData.length)
+        {
+            float[] bigger = new float[occluderData.length * 2];
+            System.arraycopy(occluderData, 0, bigger, 0, occluderCount * OCCLUDER_SIZE);
+            occluderData = bigger;
+        }
+
+        int o = occluderCount * OCCLUDER_SIZE;
+        int edgeCount = addOutline(o);
+        if(edgeCount < 3)
+            return;
+
+        //the front of a convex box is the furthest of its front face planes
+        int planeCount = 0;
+        for(int f = 0; f < 6; f++)
+        {
+            int a = BOX_FACES[f * 3] * 3;
+            int b = BOX_FACES[f * 3 + 1] * 3;
+            int c = BOX_FACES[f * 3 + 2] * 3;
+
+            float abx = screen[b] - screen[a], aby = screen[b + 1] - screen[a + 1], abz = screen[b + 2] - screen[a + 2];
+            float acx = screen[c] - screen[a], acy = screen[c + 1] - screen[a + 1], acz = screen[c + 2] - screen[a + 2];
+            float area = abx * acy - acx * aby;
+
+            //faces seen edge on do not add to the front
+            if(Math.abs(area) < 0.0001f)
+                continue;
+
+            float dzdx = (abz * acy - acz * aby) / area;
+            float dzdy = (abx * acz - acx * abz) / area;
+            float dz0 = screen[a + 2] - dzdx * screen[a] - dzdy * screen[a + 1];
+
+            //front faces have the rest of the box behind them
+            int other = OPPOSITE_CORNERS[f] * 3;
+            if(screen[other + 2] <= dzdx * screen[other] + dzdy * screen[other + 1] + dz0)
+                continue;
+
+            //move the plane to the furthest depth inside a pixel (sampled at pixel centres)
+            int p = o + PLANES + planeCount * 3;
+            occluderData[p] = dzdx;
+            occluderData[p + 1] = dzdy;
+            occluderData[p + 2] = dz0 + (Math.abs(dzdx) + Math.abs(dzdy)) * 0.5f;
+            planeCount++;
+        }
+
+        if(planeCount == 0)
+            return;
+
+        occluderData[o] = edgeCount;
+        occluderData[o + 1] = planeCount;
+        occluderCount++;
+    }
+
+    /**
+     * Works out the outline (convex hull) of the screen corners and stores
+     * its edges, moved in so only pixels completely inside pass, and bounds
+     * @param o offset of the occluder in occluderData
+     * @return the number of edges
+     */
+    private int addOutline(int o)
+    {
+        //sort corners by x then y
+        for(int i = 0; i < 8; i++)
+        {
+            int j = i;
+            while(j > 0 && before(i, sorted[j - 1]))
+            {
+                sorted[j] = sorted[j - 1];
+                j--;
+            }
+            sorted[j] = i;
+        }
+
+        //monotone chain - lower then upper hull (counter clockwise)
+        int n = 0;
+        for(int i = 0; i < 8; i++)
+        {
+            while(n >= 2 && turn(outline[n - 2], outline[n - 1], sorted[i]) <= 0.0f)
+                n--;
+            outline[n++] = sorted[i];
+        }
+        for(int i = 6, lower = n + 1; i >= 0; i--)
+        {
+            while(n >= lower && turn(outline[n - 2], outline[n - 1], sorted[i]) <= 0.0f)
+                n--;
+            outline[n++] = sorted[i];
+        }
+        int edgeCount = n - 1;
+        if(edgeCount < 3)
+            return 0;
+
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for(int i = 0; i < edgeCount; i++)
+        {
+            int a = outline[i] * 3;
+            int b = outline[i + 1] * 3;
+            float ax = screen[a], ay = screen[a + 1];
+
+            //edge function is positive inside, less half a pixel so whole pixels pass at their centre
+            float edgeA = -(screen[b + 1] - ay);
+            float edgeB = screen[b] - ax;
+            int e = o + EDGES + i * 3;
+            occluderData[e] = edgeA;
+            occluderData[e + 1] = edgeB;
+            occluderData[e + 2] = -(edgeA * ax + edgeB * ay) - (Math.abs(edgeA) + Math.abs(edgeB)) * 0.5f;
+
+            minX = Math.min(minX, ax);
+            maxX = Math.max(maxX, ax);
+            minY = Math.min(minY, ay);
+            maxY = Math.max(maxY, ay);
+        }
+
+        occluderData[o + BOUNDS] = minX;
+        occluderData[o + BOUNDS + 1] = maxX;
+        occluderData[o + BOUNDS + 2] = minY;
+        occluderData[o + BOUNDS + 3] = maxY;
+        return edgeCount;
+    }
+
+    /**
+     * Checks if a screen corner comes before another sorted by x then y
+     * @param a the first corner
+     * @param b the second corner
+     * @return true if a is before b
+     */
+    private boolean before(int a, int b)
+    {
+        float ax = screen[a * 3], bx = screen[b * 3];
+        return ax < bx || (ax == bx && screen[a * 3 + 1] < screen[b * 3 + 1]);
+    }
+
+    /**
+     * Gets which way the outline turns at a corner
+     * @param a the previous corner
+     * @param b the corner
+     * @param c the next corner
+     * @return positive for a counter clockwise turn
+     */
+    private float turn(int a, int b, int c)
+    {
+        float ax = screen[a * 3], ay = screen[a * 3 + 1];
+        return (screen[b * 3] - ax) * (screen[c * 3 + 1] - ay) - (screen[b * 3 + 1] - ay) * (screen[c * 3] - ax);
+    }
+
+    /**
+     * Transforms a world position into clip space
+     * @param x world x
+     * @param y world y
+     * @param z world z
+     * @param out array to put clip x, y, z and w into
+     * @param o offset into out
+     */
+    private void project(float x, float y, float z, float[] out, int o)
+    {
+        float[] vp = viewProjection;
+        out[o] = vp[0] * x + vp[4] * y + vp[8] * z + vp[12];
+        out[o + 1] = vp[1] * x + vp[5] * y + vp[9] * z + vp[13];
+        out[o + 2] = vp[2] * x + vp[6] * y + vp[10] * z + vp[14];
+        out[o + 3] = vp[3] * x + vp[7] * y + vp[11] * z + vp[15];
+    }
+
+    /**
+     * Converts a clip space position to pixels and 0..1 depth
+     * @param clip clip space positions
+     * @param c offset into clip
+     * @param out array to put screen x, y and depth into
+     * @param o offset into out
+     */
+    private void toScreen(float[] clip, int c, float[] out, int o)
+    {
+        float invW = 1.0f / clip[c + 3];
+        out[o] = (clip[c] * invW * 0.5f + 0.5f) * width;
+        out[o + 1] = (clip[c + 1] * invW * 0.5f + 0.5f) * height;
+        out[o + 2] = clip[c + 2] * invW * 0.5f + 0.5f;
+    }
+
+
+    /**
+     * Clears and draws all occluders into one band of the depth buffer
+     * @param band the band to draw
+     */
+    private void rasterizeBand(int band)
+    {
+        int y0 = band * height / bands;
+        int y1 = (band + 1) * height / bands;
+
+        float[] d = depth[0];
+        for(int i = y0 * width; i < y1 * width; i++)
+            d[i] = 1.0f;
+
+        for(int i = 0; i < occluderCount; i++)
+            rasterizeOccluder(i * OCCLUDER_SIZE, y0, y1);
+    }
+
+    /**
+     * Draws one occluder into rows y0 to y1 of the depth buffer.
+     * Only pixels the occluder completely covers are written, with the
+     * furthest depth the occluder has inside them, so a node is only hidden
+     * if it is really behind the occluder.
+     * @param o offset of the occluder in occluderData
+     * @param y0 first row
+     * @param y1 row after the last row
+     */
+    private void rasterizeOccluder(int o, int y0, int y1)
+    {
+        float[] data = occluderData;
+        int edgeEnd = o + EDGES + (int) data[o] * 3;
+        int planeEnd = o + PLANES + (int) data[o + 1] * 3;
+
+        int minX = Math.max(0, (int) Math.floor(data[o + BOUNDS]));
+        int maxX = Math.min(width - 1, (int) Math.ceil(data[o + BOUNDS + 1]) - 1);
+        int minY = Math.max(y0, (int) Math.floor(data[o + BOUNDS + 2]));
+        int maxY = Math.min(y1 - 1, (int) Math.ceil(data[o + BOUNDS + 3]) - 1);
+
+        float[] d = depth[0];
+        for(int py = minY; py <= maxY; py++)
+        {
+            float sy = py + 0.5f;
+            int row = py * width;
+
+            pixels:
+            for(int px = minX; px <= maxX; px++)
+            {
+                float sx = px + 0.5f;
+
+                for(int e = o + EDGES; e < edgeEnd; e += 3)
+                {
+                    if(data[e] * sx + data[e + 1] * sy + data[e + 2] < 0.0f)
+                        continue pixels;
+                }
+
+                float z = -Float.MAX_VALUE;
+                for(int p = o + PLANES; p < planeEnd; p += 3)
+                    z = Math.max(z, data[p] * sx + data[p + 1] * sy + data[p + 2]);
+
+                if(z < d[row + px])
+                    d[row + px] = z;
+            }
+        }
+    }
+
+    /**
+     * Builds each mip level from the max depth of 2 x 2 pixels of the level above
+     */
+    private void buildMipLevels()
+    {
+        for(int l = 1; l < depth.length; l++)
+        {
+            float[] src = depth[l - 1];
+            float[] dst = depth[l];
+            int sw = levelWidth[l - 1];
+            int sh = levelHeight[l - 1];
+
+            for(int y = 0; y < levelHeight[l]; y++)
+            {
+                int sy0 = y * 2;
+                int sy1 = Math.min(sy0 + 1, sh - 1);
+
+                for(int x = 0; x < levelWidth[l]; x++)
+                {
+                    int sx0 = x * 2;
+                    int sx1 = Math.min(sx0 + 1, sw - 1);
+
+                    dst[y * levelWidth[l] + x] = Math.max(
+                            Math.max(src[sy0 * sw + sx0], src[sy0 * sw + sx1]),
+                            Math.max(src[sy1 * sw + sx0], src[sy1 * sw + sx1]));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Tests if a bounding sphere is hidden behind the occluders
+     * @param m the node global transform (sphere is centred on its origin)
+     * @param radius the sphere radius in local units
+     * @return true if the sphere is completely hidden
+     */
+    public boolean isOccluded(float[] m, float radius)
+    {
+        if(!hasOccluders)
+            return false;
+
+        //scale radius by the largest axis scale
+        float sx = m[0] * m[0] + m[1] * m[1] + m[2] * m[2];
+        float sy = m[4] * m[4] + m[5] * m[5] + m[6] * m[6];
+        float sz = m[8] * m[8] + m[9] * m[9] + m[10] * m[10];
+        float r = radius * (float) Math.sqrt(Math.max(sx, Math.max(sy, sz)));
+
+        //project the box around the sphere
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        float minZ = Float.MAX_VALUE;
+        for(int i = 0; i < 8; i++)
+        {
+            project(m[12] + BOX_CORNERS[i * 3] * r, m[13] + BOX_CORNERS[i * 3 + 1] * r,
+                    m[14] + BOX_CORNERS[i * 3 + 2] * r, corners, 0);
+
+            //touches the near plane so cannot be hidden
+            if(corners[3] < NEAR_W)
+                return false;
+
+            toScreen(corners, 0, corners, 4);
+            minX = Math.min(minX, corners[4]);
+            maxX = Math.max(maxX, corners[4]);
+            minY = Math.min(minY, corners[5]);
+            maxY = Math.max(maxY, corners[5]);
+            minZ = Math.min(minZ, corners[6]);
+        }
+
+        //off screen (left to frustum culling)
+        if(maxX < 0.0f || minX >= width || maxY < 0.0f || minY >= height)
+            return false;
+
+        int x0 = Math.max(0, (int) minX);
+        int x1 = Math.min(width - 1, (int) maxX);
+        int y0 = Math.max(0, (int) minY);
+        int y1 = Math.min(height - 1, (int) maxY);
+
+        //find the level where the rectangle covers at most 2 x 2 pixels
+        int l = 0;
+        while(l < depth.length - 1 && ((x1 >> l) - (x0 >> l) > 1 || (y1 >> l) - (y0 >> l) > 1))
+            l++;
+
+        float[] d = depth[l];
+        int w = levelWidth[l];
+        for(int y = y0 >> l; y <= y1 >> l; y++)
+        {
+            for(int x = x0 >> l; x <= x1 >> l; x++)
+            {
+                if(d[y * w + x] >= minZ)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+}
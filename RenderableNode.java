@@ -41,6 +41,17 @@ public class RenderableNode extends Node
     public void setRenderTarget(GLRenderable target)
     {
         this.renderTarget = target;
+        refreshUpdateRegistration();
+    }
+
+    /**
+     * Checks if the render target (or this node) needs to be updated
+     * @return true if the render target is updatable
+     */
+    @Override
+    protected boolean needsUpdate()
+    {
+        return (renderTarget != null && renderTarget.isUpdatable()) || super.needsUpdate();
     }
 
     /**
@@ -57,32 +68,39 @@ public class RenderableNode extends Node
     }
 
     /**
-     * Updates this renderable node
+     * Releases this renderable node
+     * @param gl
      */
     @Override
-    public void update()
+    public void release(GL gl)
     {
         if(renderTarget != null)
-            renderTarget.update();
+            renderTarget.release(gl);
 
-        super.update();
+        super.release(gl);
     }
 
     /**
-     * Inits this renderable node
-     * @param gl
+     * Updates the render target of this node
      */
     @Override
-    public void draw(GL gl)
+    protected void updateSelf()
     {
-        preDraw(gl);
+        if(renderTarget != null)
+            renderTarget.update();
+    }
 
+    /**
+     * Draws the render target and children nodes
+     * @param gl
+     */
+    @Override
+    protected void drawContents(GL gl)
+    {
         if(renderTarget != null)
             renderTarget.draw(gl);
 
-        super.draw(gl);
-
-        postDraw(gl);
+        super.drawContents(gl);
     }
 
 }
@@ -1,4 +1,7 @@
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import javax.media.opengl.GL;
 
 /**
@@ -11,6 +14,49 @@ public class Scene
     /** The one and only rootNode */
     private final Node rootNode;
 
+    /** Nodes that have update logic (the only nodes visited by update) */
+    private final ArrayList<Node> activeNodes;
+
+    /** Number of frames updated */
+    private long frameCount;
+
+    /** Nodes that occlude other nodes */
+    private final ArrayList<Node> occluders;
+
+    /** Culler that hides nodes behind occluders (null to draw everything) */
+    private OcclusionCuller occlusionCuller;
+
+    /** View matrix the scene is drawn with */
+    private final float[] viewMatrix;
+    /** Position of the camera (worked out from the view matrix) */
+    private final float[] cameraPosition;
+
+    /** Nodes whose content is streamed in around the camera */
+    private final ArrayList<StreamingNode> streamingNodes;
+    /** Loads and releases streaming node content (null to not stream) */
+    private SubtreeStreamer streamer;
+    /** Nodes taken out of the scene to release on the GL thread */
+    private final ArrayList<Node> releasedNodes;
+
+    /** Time allowed for rendering impostors each frame (nanoseconds) */
+    private long impostorBudget;
+    /** Time spent rendering impostors this frame (nanoseconds) */
+    private long impostorTimeSpent;
+
+    /** Id to give the next node attached to this scene */
+    private int nextNodeId;
+
+    /** True if node changes are being recorded for writeDelta */
+    private boolean recordingDeltas;
+    /** Nodes with changes not yet written to a delta */
+    private final ArrayList<Node> deltaNodes;
+    /** Ids of removed nodes not yet written to a delta */
+    private int[] removedIds;
+    /** Number of ids in removedIds */
+    private int removedCount;
+    /** Encodes the deltas (null until recording starts) */
+    private SceneDeltaWriter deltaWriter;
+
 
 
     /**
@@ -18,7 +64,33 @@ public class Scene
      */
     public Scene()
     {
+        this.activeNodes = new ArrayList<Node>();
+        this.frameCount = 0;
+        this.occluders = new ArrayList<Node>();
+        this.occlusionCuller = null;
+
+        this.viewMatrix = new float[16];
+        viewMatrix[0] = 1.0f;
+        viewMatrix[5] = 1.0f;
+        viewMatrix[10] = 1.0f;
+        viewMatrix[15] = 1.0f;
+        this.cameraPosition = new float[3];
+        this.streamingNodes = new ArrayList<StreamingNode>();
+        this.streamer = null;
+        this.releasedNodes = new ArrayList<Node>();
+
+        this.impostorBudget = 2000000L;
+        this.impostorTimeSpent = 0;
+
+        this.nextNodeId = 0;
+        this.recordingDeltas = false;
+        this.deltaNodes = new ArrayList<Node>();
+        this.removedIds = new int[16];
+        this.removedCount = 0;
+        this.deltaWriter = null;
+
         this.rootNode = new Node("rootNode");
+        rootNode.attachToScene(this);
     }
 
 
@@ -32,6 +104,393 @@ public class Scene
     }
 
 
+    /**
+     * Adds a node to the streaming list
+     * @param node the node to add
+     */
+    void registerStreaming(StreamingNode node)
+    {
+        node.streamingIndex = streamingNodes.size();
+        streamingNodes.add(node);
+    }
+
+    /**
+     * Removes a node from the streaming list
+     * @param node the node to remove
+     */
+    void unregisterStreaming(StreamingNode node)
+    {
+        StreamingNode last = streamingNodes.remove(streamingNodes.size() - 1);
+        if(last != node)
+        {
+            streamingNodes.set(node.streamingIndex, last);
+            last.streamingIndex = node.streamingIndex;
+        }
+        node.streamingIndex = -1;
+    }
+
+
+    /**
+     * Releases a node and its children at the start of the next draw.
+     * Used when a node leaves the scene outside of the GL thread.
+     * @param node the node to release (detached from its parent when released)
+     */
+    void releaseLater(Node node)
+    {
+        releasedNodes.add(node);
+    }
+
+
+    /**
+     * Sets the view matrix the scene is drawn with
+     * (the modelview matrix on the stack when draw is called).
+     * Impostors use it to work out where nodes are in eye space and
+     * streaming uses the camera position worked out from it.
+     * @param matrix the column major view matrix (copied)
+     */
+    public void setViewMatrix(float[] matrix)
+    {
+        System.arraycopy(matrix, 0, viewMatrix, 0, 16);
+
+        //camera is where the view matrix moves to the origin: -inverse(rotation) * translation
+        float a = matrix[0], b = matrix[4], c = matrix[8];
+        float d = matrix[1], e = matrix[5], f = matrix[9];
+        float g = matrix[2], h = matrix[6], i = matrix[10];
+        float det = a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
+        if(det == 0.0f)
+            return;
+
+        float tx = matrix[12], ty = matrix[13], tz = matrix[14];
+        cameraPosition[0] = -((e * i - f * h) * tx - (b * i - c * h) * ty + (b * f - c * e) * tz) / det;
+        cameraPosition[1] = -(-(d * i - f * g) * tx + (a * i - c * g) * ty - (a * f - c * d) * tz) / det;
+        cameraPosition[2] = -((d * h - e * g) * tx - (a * h - b * g) * ty + (a * e - b * d) * tz) / det;
+    }
+
+    /**
+     * Gets the view matrix (do not modify)
+     * @return the column major view matrix
+     */
+    public float[] getViewMatrix()
+    {
+        return viewMatrix;
+    }
+
+    /**
+     * Gets the position of the camera (do not modify)
+     * @return the camera x, y and z from the view matrix
+     */
+    public float[] getCameraPosition()
+    {
+        return cameraPosition;
+    }
+
+    /**
+     * Sets the streamer that loads streaming node content when drawing
+     * @param streamer the streamer to use (null to stop streaming)
+     */
+    public void setSubtreeStreamer(SubtreeStreamer streamer)
+    {
+        this.streamer = streamer;
+    }
+
+    /**
+     * Gets the streamer that loads streaming node content
+     * @return the streamer - or null if not streaming
+     */
+    public SubtreeStreamer getSubtreeStreamer()
+    {
+        return streamer;
+    }
+
+
+    /**
+     * Sets the time allowed for rendering impostors each frame.
+     * Impostors that are out of date keep their old image (or draw
+     * normally) until there is time to render them.
+     * @param millis milliseconds per frame
+     */
+    public void setImpostorTimeBudget(float millis)
+    {
+        impostorBudget = (long) (millis * 1000000.0f);
+    }
+
+    /**
+     * Checks if there is time left to render an impostor this frame
+     * @return true if an impostor can be rendered
+     */
+    boolean impostorTimeLeft()
+    {
+        return impostorTimeSpent < impostorBudget;
+    }
+
+    /**
+     * Adds to the time spent rendering impostors this frame
+     * @param nanos time spent in nanoseconds
+     */
+    void impostorTimeUsed(long nanos)
+    {
+        impostorTimeSpent += nanos;
+    }
+
+
+    /**
+     * Called when a node is attached to this scene
+     * @param node the attached node
+     */
+    void nodeAttached(Node node)
+    {
+        node.nodeId = nextNodeId++;
+
+        if(recordingDeltas)
+            markDelta(node, SceneDeltaWriter.ADDED);
+    }
+
+    /**
+     * Called when a node (and its children) is about to be removed from this scene
+     * @param node the top node being removed
+     */
+    void nodeRemoved(Node node)
+    {
+        if(recordingDeltas)
+            recordRemoved(node);
+    }
+
+    /**
+     * Records the removal of every sent node in a subtree.
+     * Nodes moved into the subtree this frame are still under their old
+     * parent in a mirror, so removing only the top node is not enough.
+     * @param node the top node being removed
+     */
+    private void recordRemoved(Node node)
+    {
+        //never sent nodes have nothing to remove (but sent nodes may have been moved under them)
+        if(node.deltaScene != this || (node.deltaFlags & SceneDeltaWriter.ADDED) == 0)
+        {
+            if(removedCount == removedIds.length)
+            {
+                int[] bigger = new int[removedIds.length * 2];
+                System.arraycopy(removedIds, 0, bigger, 0, removedCount);
+                removedIds = bigger;
+            }
+            removedIds[removedCount++] = node.nodeId;
+        }
+
+        for(int i = 0; i < node.getChildCount(); i++)
+            recordRemoved(node.getChild(i));
+    }
+
+    /**
+     * Called when a node is moved to a new parent in this scene
+     * @param node the moved node
+     */
+    void nodeReparented(Node node)
+    {
+        if(recordingDeltas)
+            markDelta(node, SceneDeltaWriter.REPARENTED);
+    }
+
+    /**
+     * Called when the local transformation of a node changes
+     * @param node the changed node
+     */
+    void transformChanged(Node node)
+    {
+        if(recordingDeltas)
+            markDelta(node, SceneDeltaWriter.TRANSFORM_CHANGED);
+    }
+
+    /**
+     * Records a change to a node for the next delta
+     * @param node the changed node
+     * @param flag the type of change
+     */
+    private void markDelta(Node node, int flag)
+    {
+        if(node.deltaScene != this)
+        {
+            node.deltaScene = this;
+            node.deltaFlags = 0;
+            deltaNodes.add(node);
+        }
+        node.deltaFlags |= flag;
+    }
+
+    /**
+     * Records a node and its children as added
+     * @param node the top node
+     */
+    private void markSubtreeAdded(Node node)
+    {
+        markDelta(node, SceneDeltaWriter.ADDED);
+
+        for(int i = 0; i < node.getChildCount(); i++)
+            markSubtreeAdded(node.getChild(i));
+    }
+
+    /**
+     * Forgets all changes that have been recorded
+     */
+    private void clearDeltas()
+    {
+        for(int i = 0; i < deltaNodes.size(); i++)
+        {
+            Node n = deltaNodes.get(i);
+            if(n.deltaScene == this)
+            {
+                n.deltaScene = null;
+                n.deltaFlags = 0;
+            }
+        }
+        deltaNodes.clear();
+        removedCount = 0;
+    }
+
+
+    /**
+     * Turns recording of node changes on or off.
+     * When turned on, the first delta contains the whole node tree.
+     * @param record true to record changes for writeDelta
+     */
+    public void setRecordingDeltas(boolean record)
+    {
+        if(record == recordingDeltas)
+            return;
+
+        clearDeltas();
+        recordingDeltas = record;
+
+        if(record)
+        {
+            if(deltaWriter == null)
+                deltaWriter = new SceneDeltaWriter();
+
+            for(int i = 0; i < rootNode.getChildCount(); i++)
+                markSubtreeAdded(rootNode.getChild(i));
+        }
+    }
+
+    /**
+     * Writes the nodes added, removed, reparented or moved since the
+     * last delta to a channel (see SceneDeltaApplier)
+     * @param channel a blocking channel to write to
+     * @return true if a delta was written - false if not recording
+     * @throws IOException if the channel could not be written to
+     */
+    public boolean writeDelta(WritableByteChannel channel) throws IOException
+    {
+        if(!recordingDeltas)
+            return false;
+
+        try
+        {
+            deltaWriter.write(channel, this, frameCount, deltaNodes, removedIds, removedCount);
+        }
+        finally
+        {
+            clearDeltas();
+        }
+        return true;
+    }
+
+
+    /**
+     * Adds a node to the active update list
+     * @param node the node to add
+     */
+    void registerActive(Node node)
+    {
+        node.activeIndex = activeNodes.size();
+        activeNodes.add(node);
+    }
+
+    /**
+     * Removes a node from the active update list.
+     * The last node is moved into the gap so the list stays compact.
+     * @param node the node to remove
+     */
+    void unregisterActive(Node node)
+    {
+        Node last = activeNodes.remove(activeNodes.size() - 1);
+        if(last != node)
+        {
+            activeNodes.set(node.activeIndex, last);
+            last.activeIndex = node.activeIndex;
+        }
+        node.activeIndex = -1;
+    }
+
+    /**
+     * Adds a node to the occluder list
+     * @param node the node to add
+     */
+    void registerOccluder(Node node)
+    {
+        node.occluderIndex = occluders.size();
+        occluders.add(node);
+    }
+
+    /**
+     * Removes a node from the occluder list
+     * @param node the node to remove
+     */
+    void unregisterOccluder(Node node)
+    {
+        Node last = occluders.remove(occluders.size() - 1);
+        if(last != node)
+        {
+            occluders.set(node.occluderIndex, last);
+            last.occluderIndex = node.occluderIndex;
+        }
+        node.occluderIndex = -1;
+    }
+
+
+    /**
+     * Sets the occlusion culler used when drawing
+     * @param culler the culler to use (null to turn off occlusion culling)
+     */
+    public void setOcclusionCuller(OcclusionCuller culler)
+    {
+        this.occlusionCuller = culler;
+    }
+
+    /**
+     * Gets the occlusion culler used when drawing
+     * @return the culler - or null if not culling
+     */
+    public OcclusionCuller getOcclusionCuller()
+    {
+        return occlusionCuller;
+    }
+
+    /**
+     * Checks if a node is hidden behind the occluders this frame
+     * @param node the node to test
+     * @return true if the node (and its children) can be skipped
+     */
+    boolean isOccluded(Node node)
+    {
+        if(occlusionCuller == null || node.occluderIndex >= 0)
+            return false;
+
+        float radius = node.getBoundingRadius();
+        if(radius <= 0.0f)
+            return false;
+
+        return occlusionCuller.isOccluded(node.getNodeGlobalTransform(), radius);
+    }
+
+
+    /**
+     * Gets the number of nodes in the active update list
+     * @return the number of nodes that get updated
+     */
+    public int getActiveNodeCount()
+    {
+        return activeNodes.size();
+    }
+
+
 
     /**
      * Inits the scene and the nodes
@@ -45,13 +504,17 @@ public class Scene
 
 
     /**
-     * Updates the scene and the nodes
+     * Updates the scene and the nodes.
+     * Only nodes with update logic are visited.
      */
     public void update()
     {
+        frameCount++;
+        long now = System.nanoTime();
 
-        //update node tree
-        rootNode.update();
+        //update active nodes
+        for(int i = 0; i < activeNodes.size(); i++)
+            activeNodes.get(i).scheduledUpdate(frameCount, now);
     }
 
 
@@ -62,6 +525,25 @@ public class Scene
      */
     public void draw(GL gl)
     {
+        impostorTimeSpent = 0;
+
+        //free nodes that left the scene since the last draw
+        for(int i = 0; i < releasedNodes.size(); i++)
+        {
+            Node n = releasedNodes.get(i);
+            if(n.getParentNode() != null)
+                n.getParentNode().removeChild(n);
+            n.release(gl);
+        }
+        releasedNodes.clear();
+
+        //load and release content around the camera
+        if(streamer != null)
+            streamer.process(gl, streamingNodes, cameraPosition);
+
+        //build depth buffer of occluders
+        if(occlusionCuller != null)
+            occlusionCuller.rasterize(occluders);
 
         //draw node tree
         rootNode.draw(gl);
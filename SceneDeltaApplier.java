@@ -0,0 +1,253 @@
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+
+
+/**
+ * Rebuilds a scene from the deltas written by Scene.writeDelta.
+ * Only the node tree, names and transformations are mirrored.
+ * @author Andrew
+ */
+public class SceneDeltaApplier
+{
+    /** The scene being rebuilt */
+    private final Scene scene;
+
+    /** Nodes by the id they have in the source scene */
+    private final HashMap<Integer, Node> nodes;
+    /** Source scene ids by node */
+    private final IdentityHashMap<Node, Integer> ids;
+
+    /** Buffer to read one byte of the delta length */
+    private final ByteBuffer lengthByte;
+    /** The delta being read */
+    private ByteBuffer body;
+
+    /** Frame number of the last delta applied */
+    private long lastFrame;
+
+
+
+    /**
+     * Creates a new applier
+     * @param scene the scene to rebuild into
+     */
+    public SceneDeltaApplier(Scene scene)
+    {
+        this.scene = scene;
+
+        nodes = new HashMap<Integer, Node>();
+        ids = new IdentityHashMap<Node, Integer>();
+
+        //root nodes always match
+        nodes.put(0, scene.getRootNode());
+        ids.put(scene.getRootNode(), 0);
+
+        lengthByte = ByteBuffer.allocate(1);
+        body = ByteBuffer.allocate(4096);
+        lastFrame = -1;
+    }
+
+
+    /**
+     * Gets the frame number of the last delta applied
+     * @return the frame number (-1 if none applied)
+     */
+    public long getLastFrame()
+    {
+        return lastFrame;
+    }
+
+    /**
+     * Reads one delta from a channel and applies it to the scene
+     * @param channel a blocking channel to read from
+     * @return true if a delta was applied - false if the channel has ended
+     * @throws IOException if the channel could not be read or the delta is bad
+     */
+    public boolean apply(ReadableByteChannel channel) throws IOException
+    {
+        //read the varint length
+        int length = 0;
+        for(int shift = 0; ; shift += 7)
+        {
+            if(shift > 28)
+                throw new IOException("Bad scene delta length");
+
+            lengthByte.clear();
+            if(!readFully(channel, lengthByte))
+            {
+                if(shift == 0)
+                    return false;
+                throw new EOFException();
+            }
+
+            int b = lengthByte.get(0);
+            length |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                break;
+        }
+
+        if(body.capacity() < length)
+            body = ByteBuffer.allocate(Math.max(length, body.capacity() * 2));
+        body.clear();
+        body.limit(length);
+        if(!readFully(channel, body))
+            throw new EOFException();
+        body.flip();
+
+        lastFrame = SceneDeltaWriter.getVarLong(body);
+
+        int type;
+        while((type = body.get()) != SceneDeltaWriter.END)
+        {
+            if(type == SceneDeltaWriter.REMOVE)
+            {
+                Node n = nodes.get(getId());
+                if(n != null && n != scene.getRootNode())
+                {
+                    forget(n);
+                    if(n.getParentNode() != null)
+                        n.getParentNode().removeChild(n);
+                }
+            }
+            else if(type == SceneDeltaWriter.ADD)
+            {
+                int id = getId();
+                Node parent = getParent();
+
+                byte[] name = new byte[getId()];
+                body.get(name);
+
+                Node n = new Node(new String(name, SceneDeltaWriter.UTF8));
+                getTransform(n);
+                parent.addChild(n);
+
+                nodes.put(id, n);
+                ids.put(n, id);
+            }
+            else if(type == SceneDeltaWriter.REPARENT)
+            {
+                Node n = nodes.get(getId());
+                Node parent = getParent();
+                if(n != null)
+                    parent.addChild(n);
+            }
+            else if(type == SceneDeltaWriter.TRANSFORM)
+            {
+                //always read the transform even if the node is unknown
+                getTransform(nodes.get(getId()));
+            }
+            else
+            {
+                throw new IOException("Bad scene delta record " + type);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Reads a node id
+     * @return the id
+     */
+    private int getId()
+    {
+        return (int) SceneDeltaWriter.getVarLong(body);
+    }
+
+    /**
+     * Reads a parent id
+     * @return the parent node (rootNode if unknown)
+     */
+    private Node getParent()
+    {
+        Node parent = nodes.get(getId());
+        if(parent == null)
+            parent = scene.getRootNode();
+        return parent;
+    }
+
+    /**
+     * Reads a transform and sets it on a node
+     * @param n the node to set (null to skip the transform)
+     */
+    private void getTransform(Node n)
+    {
+        int parts = body.get();
+
+        float tx = 0.0f, ty = 0.0f, tz = 0.0f;
+        if((parts & SceneDeltaWriter.HAS_TRANSLATION) != 0)
+        {
+            tx = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+            ty = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+            tz = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+        }
+
+        float sx = 1.0f, sy = 1.0f, sz = 1.0f;
+        if((parts & SceneDeltaWriter.HAS_SCALE) != 0)
+        {
+            sx = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+            sy = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+            sz = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.POSITION_STEP);
+        }
+
+        float degrees = 0.0f, rx = 0.0f, ry = 1.0f, rz = 0.0f;
+        if((parts & SceneDeltaWriter.HAS_ROTATION) != 0)
+        {
+            degrees = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.ANGLE_STEP);
+            rx = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.AXIS_STEP);
+            ry = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.AXIS_STEP);
+            rz = SceneDeltaWriter.getQuantized(body, SceneDeltaWriter.AXIS_STEP);
+        }
+
+        if(n != null)
+        {
+            n.setTranslation(tx, ty, tz);
+            n.setScale(sx, sy, sz);
+            n.setRotation(degrees, rx, ry, rz);
+        }
+    }
+
+    /**
+     * Forgets the ids of a node and its children
+     * @param n the top node
+     */
+    private void forget(Node n)
+    {
+        Integer id = ids.remove(n);
+        if(id != null)
+            nodes.remove(id);
+
+        for(int i = 0; i < n.getChildCount(); i++)
+            forget(n.getChild(i));
+    }
+
+    /**
+     * Reads until the buffer is full
+     * @param channel the channel to read from
+     * @param buffer the buffer to fill
+     * @return false if the channel ended before anything was read
+     * @throws IOException if the channel could not be read
+     */
+    private static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        boolean any = false;
+        while(buffer.hasRemaining())
+        {
+            if(channel.read(buffer) < 0)
+            {
+                if(any)
+                    throw new EOFException();
+                return false;
+            }
+            any = true;
+        }
+        return true;
+    }
+}
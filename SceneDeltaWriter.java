@@ -0,0 +1,270 @@
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+
+
+
+/**
+ * Encodes scene changes into a compact binary delta.
+ *
+ * Each delta is a varint byte length followed by the frame number and
+ * a list of records ending with END. Added nodes come first, then moved
+ * and transformed nodes, then removed nodes. Ids, names and quantized transforms
+ * are written as (zigzag) varints.
+ * @author Andrew
+ */
+class SceneDeltaWriter
+{
+    /** Record types */
+    static final int END = 0;
+    static final int REMOVE = 1;
+    static final int ADD = 2;
+    static final int REPARENT = 3;
+    static final int TRANSFORM = 4;
+
+    /** Node change flags */
+    static final int ADDED = 1;
+    static final int REPARENTED = 2;
+    static final int TRANSFORM_CHANGED = 4;
+
+    /** Transform parts that are not the default value */
+    static final int HAS_TRANSLATION = 1;
+    static final int HAS_SCALE = 2;
+    static final int HAS_ROTATION = 4;
+
+    /** Quantization steps */
+    static final float POSITION_STEP = 1.0f / 1024.0f;
+    static final float ANGLE_STEP = 1.0f / 64.0f;
+    static final float AXIS_STEP = 1.0f / 16384.0f;
+
+    /** Encoding of node names */
+    static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** Largest record without its name */
+    private static final int MAX_RECORD = 128;
+
+    /** The delta being written */
+    private ByteBuffer body;
+    /** The length of the delta */
+    private final ByteBuffer header;
+
+
+
+    /**
+     * Creates a new delta writer
+     */
+    SceneDeltaWriter()
+    {
+        body = ByteBuffer.allocate(4096);
+        header = ByteBuffer.allocate(5);
+    }
+
+
+    /**
+     * Writes one delta
+     * @param channel the channel to write to
+     * @param scene the scene the changes are from
+     * @param frame the frame number
+     * @param nodes nodes with changes
+     * @param removedIds ids of removed nodes
+     * @param removedCount number of removed ids
+     * @throws IOException if the channel could not be written to
+     */
+    void write(WritableByteChannel channel, Scene scene, long frame, ArrayList<Node> nodes,
+            int[] removedIds, int removedCount) throws IOException
+    {
+        body.clear();
+        putVarLong(body, frame);
+
+        //added nodes carry their parent and transform
+        for(int i = 0; i < nodes.size(); i++)
+        {
+            Node n = nodes.get(i);
+            if(n.deltaScene == scene && (n.deltaFlags & ADDED) != 0)
+                putAdded(n, scene);
+        }
+
+        for(int i = 0; i < nodes.size(); i++)
+        {
+            Node n = nodes.get(i);
+            if(n.deltaScene != scene)
+                continue;
+
+            if((n.deltaFlags & REPARENTED) != 0)
+            {
+                ensureSpace(MAX_RECORD);
+                body.put((byte) REPARENT);
+                putVarLong(body, n.nodeId);
+                putVarLong(body, n.getParentNode().nodeId);
+            }
+
+            if((n.deltaFlags & TRANSFORM_CHANGED) != 0)
+            {
+                ensureSpace(MAX_RECORD);
+                body.put((byte) TRANSFORM);
+                putVarLong(body, n.nodeId);
+                putTransform(n);
+            }
+        }
+
+        //removed last so nodes moved out of a removed subtree are moved before it goes
+        //(removed nodes always get a new id if added again)
+        for(int i = 0; i < removedCount; i++)
+        {
+            ensureSpace(MAX_RECORD);
+            body.put((byte) REMOVE);
+            putVarLong(body, removedIds[i]);
+        }
+
+        ensureSpace(1);
+        body.put((byte) END);
+        body.flip();
+
+        header.clear();
+        putVarLong(header, body.remaining());
+        header.flip();
+
+        while(header.hasRemaining())
+            channel.write(header);
+        while(body.hasRemaining())
+            channel.write(body);
+    }
+
+    /**
+     * Writes an added node (after its parent if that was also added)
+     * @param n the added node
+     * @param scene the scene the changes are from
+     */
+    private void putAdded(Node n, Scene scene)
+    {
+        Node parent = n.getParentNode();
+        if(parent.deltaScene == scene && (parent.deltaFlags & ADDED) != 0)
+            putAdded(parent, scene);
+
+        byte[] name = n.getNodeName() == null ? new byte[0] : n.getNodeName().getBytes(UTF8);
+
+        ensureSpace(MAX_RECORD + name.length);
+        body.put((byte) ADD);
+        putVarLong(body, n.nodeId);
+        putVarLong(body, parent.nodeId);
+        putVarLong(body, name.length);
+        body.put(name);
+        putTransform(n);
+
+        //everything about the node has now been sent
+        n.deltaFlags = 0;
+    }
+
+    /**
+     * Writes the quantized local transform of a node
+     * @param n the node
+     */
+    private void putTransform(Node n)
+    {
+        float[] t = n.getLocalTranslation();
+        float[] s = n.getLocalScale();
+        float[] r = n.getLocalRotation();
+
+        int parts = 0;
+        if(t[0] != 0.0f || t[1] != 0.0f || t[2] != 0.0f)
+            parts |= HAS_TRANSLATION;
+        if(s[0] != 1.0f || s[1] != 1.0f || s[2] != 1.0f)
+            parts |= HAS_SCALE;
+        if(r[0] != 0.0f)
+            parts |= HAS_ROTATION;
+        body.put((byte) parts);
+
+        if((parts & HAS_TRANSLATION) != 0)
+        {
+            for(int i = 0; i < 3; i++)
+                putQuantized(t[i], POSITION_STEP);
+        }
+        if((parts & HAS_SCALE) != 0)
+        {
+            for(int i = 0; i < 3; i++)
+                putQuantized(s[i], POSITION_STEP);
+        }
+        if((parts & HAS_ROTATION) != 0)
+        {
+            putQuantized(r[0], ANGLE_STEP);
+            for(int i = 1; i < 4; i++)
+                putQuantized(r[i], AXIS_STEP);
+        }
+    }
+
+    /**
+     * Writes a float as a zigzag varint of whole steps
+     * @param value the value
+     * @param step the quantization step
+     */
+    private void putQuantized(float value, float step)
+    {
+        long q = Math.round((double) value / step);
+        putVarLong(body, (q << 1) ^ (q >> 63));
+    }
+
+    /**
+     * Makes sure the delta buffer has room
+     * @param bytes the number of bytes needed
+     */
+    private void ensureSpace(int bytes)
+    {
+        if(body.remaining() < bytes)
+        {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(body.capacity() * 2, body.position() + bytes));
+            body.flip();
+            bigger.put(body);
+            body = bigger;
+        }
+    }
+
+
+    /**
+     * Writes an unsigned varint (7 bits per byte)
+     * @param buffer the buffer to write to
+     * @param value the value
+     */
+    static void putVarLong(ByteBuffer buffer, long value)
+    {
+        while((value & ~0x7FL) != 0)
+        {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint
+     * @param buffer the buffer to read from
+     * @return the value
+     */
+    static long getVarLong(ByteBuffer buffer)
+    {
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7)
+        {
+            int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                return value;
+        }
+        return value;
+    }
+
+    /**
+     * Reads a zigzag varint of whole steps back into a float
+     * @param buffer the buffer to read from
+     * @param step the quantization step
+     * @return the value
+     */
+    static float getQuantized(ByteBuffer buffer, float step)
+    {
+        long z = getVarLong(buffer);
+        long q = (z >>> 1) ^ -(z & 1);
+        return (float) (q * (double) step);
+    }
+}
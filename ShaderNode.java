@@ -5,6 +5,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.media.opengl.GL;
@@ -17,6 +19,9 @@ import javax.media.opengl.GL;
  */
 public class ShaderNode extends Node
 {
+    /** Logger for shader errors */
+    private static final Logger LOGGER = Logger.getLogger(ShaderNode.class.getName());
+
     /** Default value for null shaders */
     private static final int NO_SHADER_ID = -1;
 
@@ -36,6 +41,23 @@ public class ShaderNode extends Node
     /** True if shader is ready to use */
     private boolean shaderReady;
 
+    /** Reused arrays for passing shader source and reading status */
+    private final String[] sourceArray;
+    private final int[] status;
+
+    /** Default value for uniforms not in the shader program */
+    private static final int NO_UNIFORM = -1;
+
+    /** Uniforms of the shader program by name */
+    private final HashMap<String, Uniform> uniforms;
+    /** Uniforms with values waiting to be sent to the shader program */
+    private final ArrayList<Uniform> dirtyUniforms;
+
+    /** Name of the uniform to send node model matrices to (null to use the matrix stack) */
+    private String modelMatrixUniform;
+    /** Location of the model matrix uniform */
+    private int modelMatrixLocation = NO_UNIFORM;
+
 
     /**
      * Creates a new ShaderNode
@@ -46,6 +68,12 @@ public class ShaderNode extends Node
         super(name);
 
         shaderReady = false;
+
+        sourceArray = new String[1];
+        status = new int[1];
+
+        uniforms = new HashMap<String, Uniform>();
+        dirtyUniforms = new ArrayList<Uniform>();
     }
 
 
@@ -82,12 +110,12 @@ public class ShaderNode extends Node
         }
         catch (FileNotFoundException ex)
         {
-            Logger.getLogger(ShaderNode.class.getName()).log(Level.SEVERE, null, ex);
+            LOGGER.log(Level.SEVERE, null, ex);
             success = false;
         }
         catch (IOException ex)
         {
-            Logger.getLogger(ShaderNode.class.getName()).log(Level.SEVERE, null, ex);
+            LOGGER.log(Level.SEVERE, null, ex);
         }
 
 
@@ -107,27 +135,28 @@ public class ShaderNode extends Node
         fragmentShader = gl.glCreateShader(GL.GL_FRAGMENT_SHADER);
 
         //send source of vertex and compile
-        gl.glShaderSource(vertexShader, 1, new String[]{vertexSource}, null);
+        sourceArray[0] = vertexSource;
+        gl.glShaderSource(vertexShader, 1, sourceArray, null);
         gl.glCompileShader(vertexShader);
 
         //ensure vertex was compiled
-        int[] status = new int[1];
         gl.glGetShaderiv(vertexShader, GL.GL_COMPILE_STATUS, status, 0);
         if(status[0] != GL.GL_TRUE) //then something went wrong
         {
-            Logger.getLogger(ShaderNode.class.getName()).log(Level.SEVERE, "Error compiling VERTEX shader");
+            LOGGER.log(Level.SEVERE, "Error compiling VERTEX shader");
             return;
         }
 
         //send source of frag and compile
-        gl.glShaderSource(fragmentShader, 1, new String[]{fragmentSource}, null);
+        sourceArray[0] = fragmentSource;
+        gl.glShaderSource(fragmentShader, 1, sourceArray, null);
         gl.glCompileShader(fragmentShader);
 
         //ensure frag was compiled
         gl.glGetShaderiv(fragmentShader, GL.GL_COMPILE_STATUS, status, 0);
         if(status[0] != GL.GL_TRUE) //then something went wrong
         {
-            Logger.getLogger(ShaderNode.class.getName()).log(Level.SEVERE, "Error compiling FRAGMENT shader");
+            LOGGER.log(Level.SEVERE, "Error compiling FRAGMENT shader");
             return;
         }
 
@@ -143,14 +172,304 @@ public class ShaderNode extends Node
         gl.glGetProgramiv(shaderProgram, GL.GL_LINK_STATUS, status, 0);
         if(status[0] != GL.GL_TRUE) //then something went wrong
         {
-            Logger.getLogger(ShaderNode.class.getName()).log(Level.SEVERE, "Error linking shader program");
+            LOGGER.log(Level.SEVERE, "Error linking shader program");
             return;
         }
 
+        //look up uniforms once so they are never looked up by name while drawing
+        cacheUniformLocations(gl);
+
         shaderReady = true;
         super.init(gl);
     }
 
+
+    /**
+     * Deletes the shader program and releases children nodes
+     * @param gl
+     */
+    @Override
+    public void release(GL gl)
+    {
+        super.release(gl);
+
+        if(shaderProgram != NO_SHADER_ID)
+            gl.glDeleteProgram(shaderProgram);
+        if(vertexShader != NO_SHADER_ID)
+            gl.glDeleteShader(vertexShader);
+        if(fragmentShader != NO_SHADER_ID)
+            gl.glDeleteShader(fragmentShader);
+
+        shaderProgram = NO_SHADER_ID;
+        vertexShader = NO_SHADER_ID;
+        fragmentShader = NO_SHADER_ID;
+        shaderReady = false;
+
+        //locations are looked up again on the next init
+        modelMatrixLocation = NO_UNIFORM;
+        for(Uniform u : uniforms.values())
+            u.location = NO_UNIFORM;
+        invalidateModelMatrixLocation();
+    }
+
+
+    /**
+     * Finds all active uniforms of the linked shader program
+     * and stores their locations
+     * @param gl
+     */
+    private void cacheUniformLocations(GL gl)
+    {
+        int[] count = new int[1];
+        int[] maxLength = new int[1];
+        gl.glGetProgramiv(shaderProgram, GL.GL_ACTIVE_UNIFORMS, count, 0);
+        gl.glGetProgramiv(shaderProgram, GL.GL_ACTIVE_UNIFORM_MAX_LENGTH, maxLength, 0);
+
+        byte[] nameBytes = new byte[Math.max(1, maxLength[0])];
+        int[] length = new int[1];
+        int[] size = new int[1];
+        int[] type = new int[1];
+
+        for(int i = 0; i < count[0]; i++)
+        {
+            gl.glGetActiveUniform(shaderProgram, i, nameBytes.length, length, 0, size, 0, type, 0, nameBytes, 0);
+            String name = new String(nameBytes, 0, length[0]);
+
+            //arrays are reported as "name[0]"
+            if(name.endsWith("[0]"))
+                name = name.substring(0, name.length() - 3);
+
+            Uniform u = uniforms.get(name);
+            if(u == null)
+            {
+                u = new Uniform();
+                uniforms.put(name, u);
+            }
+            u.location = gl.glGetUniformLocation(shaderProgram, name);
+
+            //send values that were set before the shader was ready
+            if(u.kind != Uniform.NONE)
+                markDirty(u);
+        }
+
+        if(modelMatrixUniform != null)
+        {
+            modelMatrixLocation = getUniformLocation(modelMatrixUniform);
+            invalidateModelMatrixLocation();
+        }
+    }
+
+    /**
+     * Gets the cached location of a uniform
+     * @param name the name of the uniform
+     * @return the uniform location - or -1 if not in the shader program
+     */
+    public int getUniformLocation(String name)
+    {
+        Uniform u = uniforms.get(name);
+        if(u == null)
+            return NO_UNIFORM;
+        return u.location;
+    }
+
+
+    /**
+     * Gets a uniform to set, creating it if it has not been seen yet
+     * @param name the name of the uniform
+     * @param kind the type of value being set
+     * @param count the number of values being set
+     * @return the uniform
+     */
+    private Uniform getUniform(String name, int kind, int count)
+    {
+        Uniform u = uniforms.get(name);
+        if(u == null)
+        {
+            u = new Uniform();
+            uniforms.put(name, u);
+        }
+
+        if(u.kind != kind || u.count != count)
+        {
+            u.kind = kind;
+            u.count = count;
+            markDirty(u);
+        }
+        return u;
+    }
+
+    /**
+     * Sets one value of a uniform, marking it dirty only if it changed
+     * @param u the uniform
+     * @param index the value index
+     * @param value the new value
+     */
+    private void setValue(Uniform u, int index, float value)
+    {
+        if(u.values[index] != value)
+        {
+            u.values[index] = value;
+            markDirty(u);
+        }
+    }
+
+    /**
+     * Queues a uniform to be sent to the shader program
+     * @param u the uniform
+     */
+    private void markDirty(Uniform u)
+    {
+        if(!u.dirty)
+        {
+            u.dirty = true;
+            dirtyUniforms.add(u);
+        }
+    }
+
+    /**
+     * Sets a float uniform.
+     * Values are sent the next time the shader is turned on (if changed)
+     * @param name the name of the uniform
+     * @param x the value
+     */
+    public void setUniform(String name, float x)
+    {
+        Uniform u = getUniform(name, Uniform.FLOAT, 1);
+        setValue(u, 0, x);
+    }
+
+    /**
+     * Sets a vec2 uniform
+     * @param name the name of the uniform
+     * @param x first value
+     * @param y second value
+     */
+    public void setUniform(String name, float x, float y)
+    {
+        Uniform u = getUniform(name, Uniform.FLOAT, 2);
+        setValue(u, 0, x);
+        setValue(u, 1, y);
+    }
+
+    /**
+     * Sets a vec3 uniform
+     * @param name the name of the uniform
+     * @param x first value
+     * @param y second value
+     * @param z third value
+     */
+    public void setUniform(String name, float x, float y, float z)
+    {
+        Uniform u = getUniform(name, Uniform.FLOAT, 3);
+        setValue(u, 0, x);
+        setValue(u, 1, y);
+        setValue(u, 2, z);
+    }
+
+    /**
+     * Sets a vec4 uniform
+     * @param name the name of the uniform
+     * @param x first value
+     * @param y second value
+     * @param z third value
+     * @param w fourth value
+     */
+    public void setUniform(String name, float x, float y, float z, float w)
+    {
+        Uniform u = getUniform(name, Uniform.FLOAT, 4);
+        setValue(u, 0, x);
+        setValue(u, 1, y);
+        setValue(u, 2, z);
+        setValue(u, 3, w);
+    }
+
+    /**
+     * Sets an int (or sampler) uniform
+     * @param name the name of the uniform
+     * @param value the value
+     */
+    public void setUniform(String name, int value)
+    {
+        Uniform u = getUniform(name, Uniform.INT, 1);
+        if(u.intValue != value)
+        {
+            u.intValue = value;
+            markDirty(u);
+        }
+    }
+
+    /**
+     * Sets a mat4 uniform
+     * @param name the name of the uniform
+     * @param matrix the column major matrix (16 values)
+     */
+    public void setUniformMatrix(String name, float[] matrix)
+    {
+        Uniform u = getUniform(name, Uniform.MATRIX, 16);
+        for(int i = 0; i < 16; i++)
+            setValue(u, i, matrix[i]);
+    }
+
+    /**
+     * Sends all changed uniforms to the shader program.
+     * The shader program must be in use.
+     * @param gl
+     */
+    private void uploadDirtyUniforms(GL gl)
+    {
+        for(int i = 0; i < dirtyUniforms.size(); i++)
+        {
+            Uniform u = dirtyUniforms.get(i);
+            u.dirty = false;
+
+            if(u.location == NO_UNIFORM)
+                continue;
+
+            if(u.kind == Uniform.INT)
+                gl.glUniform1i(u.location, u.intValue);
+            else if(u.kind == Uniform.MATRIX)
+                gl.glUniformMatrix4fv(u.location, 1, false, u.values, 0);
+            else if(u.count == 1)
+                gl.glUniform1f(u.location, u.values[0]);
+            else if(u.count == 2)
+                gl.glUniform2f(u.location, u.values[0], u.values[1]);
+            else if(u.count == 3)
+                gl.glUniform3f(u.location, u.values[0], u.values[1], u.values[2]);
+            else if(u.count == 4)
+                gl.glUniform4f(u.location, u.values[0], u.values[1], u.values[2], u.values[3]);
+        }
+        dirtyUniforms.clear();
+    }
+
+
+    /**
+     * Sets the uniform that nodes below this shader send their model
+     * matrix to, instead of pushing it on the matrix stack
+     * @param name the mat4 uniform name (null to use the matrix stack)
+     */
+    public void setModelMatrixUniform(String name)
+    {
+        this.modelMatrixUniform = name;
+
+        if(name == null)
+            modelMatrixLocation = NO_UNIFORM;
+        else if(shaderReady)
+            modelMatrixLocation = getUniformLocation(name);
+
+        //nodes below cache the location
+        invalidateModelMatrixLocation();
+    }
+
+    /**
+     * Gets the location of the model matrix uniform of this shader
+     * @return the uniform location - or -1 to use the matrix stack
+     */
+    @Override
+    protected int getModelMatrixLocation()
+    {
+        return modelMatrixLocation;
+    }
+
     
 
     /**
@@ -171,6 +490,9 @@ public class ShaderNode extends Node
     {
 
         gl.glUseProgram(shaderProgram);
+
+        if(shaderReady && !dirtyUniforms.isEmpty())
+            uploadDirtyUniforms(gl);
     }
 
     /**
@@ -200,4 +522,32 @@ public class ShaderNode extends Node
 
         turnOffShader(gl);
     }
+
+
+    /**
+     * A cached shader uniform and its last set value
+     */
+    private static class Uniform
+    {
+        /** Kinds of uniform values */
+        static final int NONE = 0;
+        static final int FLOAT = 1;
+        static final int INT = 2;
+        static final int MATRIX = 3;
+
+        /** Location in the shader program */
+        int location = NO_UNIFORM;
+        /** Kind of value set */
+        int kind = NONE;
+        /** Number of values set */
+        int count;
+
+        /** Float values (up to a 4x4 matrix) */
+        final float[] values = new float[16];
+        /** Int value */
+        int intValue;
+
+        /** True if waiting to be sent to the shader program */
+        boolean dirty;
+    }
 }
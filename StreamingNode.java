@@ -0,0 +1,215 @@
+
+import javax.media.opengl.GL;
+
+
+
+/**
+ * A node whose children are loaded when the camera comes near it
+ * and released when the camera moves away (see SubtreeStreamer)
+ * @author Andrew
+ */
+public class StreamingNode extends Node
+{
+    /** Streaming states */
+    static final int UNLOADED = 0;
+    static final int LOADING = 1;
+    static final int LOADED = 2;
+    static final int RESIDENT = 3;
+    static final int FAILED = 4;
+    /** Chosen for unloading this frame (see SubtreeStreamer) */
+    static final int UNLOADING = 5;
+
+    /** Loads the content of this node */
+    private final SubtreeLoader loader;
+
+    /** Distance from the camera to load the content at */
+    private float loadRadius;
+    /** Distance from the camera to release the content at */
+    private float unloadRadius;
+    /** Amount of the residency budget the content uses */
+    private float residencyCost;
+
+    /** Current streaming state */
+    int streamState;
+    /** Increased each time a load is started so old loads can be ignored */
+    int loadGeneration;
+    /** Content loaded in the background, waiting to be attached */
+    Node loadedContent;
+    /** The attached content (null if not resident) */
+    private Node content;
+
+    /** Index of this node in the scene streaming list (-1 if not in list) */
+    int streamingIndex;
+    /** Distance to the camera (or where it is heading) this frame */
+    float streamDistance;
+
+
+
+    /**
+     * Creates a new streaming node
+     * @param name the name of this node
+     * @param loader loads the content of this node
+     * @param loadRadius distance from the camera to load the content at
+     */
+    public StreamingNode(String name, SubtreeLoader loader, float loadRadius)
+    {
+        super(name);
+
+        this.loader = loader;
+        this.loadRadius = loadRadius;
+        this.unloadRadius = loadRadius * 1.25f;
+        this.residencyCost = 1.0f;
+
+        streamState = UNLOADED;
+        loadGeneration = 0;
+        loadedContent = null;
+        content = null;
+        streamingIndex = -1;
+    }
+
+
+    /**
+     * Sets the distances the content is loaded and released at.
+     * The unload radius should be larger to stop loading and releasing
+     * over and over at the edge.
+     * @param load distance from the camera to load the content at
+     * @param unload distance from the camera to release the content at
+     */
+    public void setStreamingRadius(float load, float unload)
+    {
+        this.loadRadius = load;
+        this.unloadRadius = Math.max(load, unload);
+    }
+
+    /**
+     * Sets how much of the residency budget the content uses
+     * @param cost the cost (default 1)
+     */
+    public void setResidencyCost(float cost)
+    {
+        this.residencyCost = cost;
+    }
+
+    /**
+     * Gets the load radius
+     * @return distance from the camera to load the content at
+     */
+    public float getLoadRadius()
+    {
+        return loadRadius;
+    }
+
+    /**
+     * Gets the unload radius
+     * @return distance from the camera to release the content at
+     */
+    public float getUnloadRadius()
+    {
+        return unloadRadius;
+    }
+
+    /**
+     * Gets the residency cost
+     * @return the amount of the residency budget the content uses
+     */
+    public float getResidencyCost()
+    {
+        return residencyCost;
+    }
+
+    /**
+     * Gets the loader of this node
+     * @return the loader
+     */
+    SubtreeLoader getLoader()
+    {
+        return loader;
+    }
+
+    /**
+     * Checks if the content is attached
+     * @return true if resident - false if not.
+     */
+    public boolean isResident()
+    {
+        return streamState == RESIDENT;
+    }
+
+
+    /**
+     * Attaches and inits loaded content
+     * @param gl
+     */
+    void makeResident(GL gl)
+    {
+        content = loadedContent;
+        loadedContent = null;
+
+        addChild(content);
+        content.init(gl);
+        streamState = RESIDENT;
+    }
+
+    /**
+     * Frees and detaches the content
+     * @param gl
+     */
+    void unload(GL gl)
+    {
+        if(content != null)
+        {
+            content.release(gl);
+            removeChild(content);
+            content = null;
+        }
+
+        //ignore any load still running
+        loadGeneration++;
+        loadedContent = null;
+        streamState = UNLOADED;
+    }
+
+    /**
+     * Frees this node and unloads the content
+     * (so it is not released again if this node is then removed)
+     * @param gl
+     */
+    @Override
+    public void release(GL gl)
+    {
+        unload(gl);
+        super.release(gl);
+    }
+
+
+    /**
+     * Registers with the scene streaming list
+     */
+    @Override
+    protected void attachedToScene()
+    {
+        getScene().registerStreaming(this);
+    }
+
+    /**
+     * Unregisters from the scene streaming list, cancels any load
+     * and gives the content to the scene to release on the GL thread
+     */
+    @Override
+    protected void detachingFromScene()
+    {
+        if(streamingIndex >= 0)
+            getScene().unregisterStreaming(this);
+
+        if(content != null)
+        {
+            getScene().releaseLater(content);
+            content = null;
+        }
+
+        //ignore any load still running
+        loadGeneration++;
+        loadedContent = null;
+        streamState = UNLOADED;
+    }
+}
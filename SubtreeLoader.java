@@ -0,0 +1,13 @@
+
+import java.io.IOException;
+
+
+/**
+ * Loads the content of a streaming node.
+ * Called on a background thread so it must not use GL.
+ * @author Andrew
+ */
+public interface SubtreeLoader
+{
+    public Node loadSubtree() throws IOException;
+}
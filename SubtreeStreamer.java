@@ -0,0 +1,352 @@
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.media.opengl.GL;
+
+
+
+/**
+ * Loads and releases the content of streaming nodes around the camera.
+ * Content is loaded on background threads and attached and inited on
+ * the GL thread a few nodes per frame. Nodes are also loaded early when
+ * the camera is heading towards them.
+ * @author Andrew
+ */
+public class SubtreeStreamer
+{
+    /** Logger for loader errors */
+    private static final Logger LOGGER = Logger.getLogger(SubtreeStreamer.class.getName());
+
+    /** Total residency cost allowed at once */
+    private float residencyBudget;
+    /** How many seconds ahead of the camera to load */
+    private float prefetchTime;
+    /** Most loaded subtrees to attach and init per frame */
+    private int maxInitsPerFrame;
+
+    /** Threads that run loaders */
+    private final ExecutorService loaders;
+    /** Loads that have finished */
+    private final ConcurrentLinkedQueue<Load> finished;
+
+    /** Nodes to unload once this frame's decisions are made */
+    private final ArrayList<StreamingNode> unloading;
+    /** Nodes to attach once this frame's decisions are made */
+    private final ArrayList<StreamingNode> attaching;
+
+    /** Camera position last frame */
+    private final float[] lastCamera;
+    /** Smoothed camera velocity (units per second) */
+    private final float[] velocity;
+    /** Time of the last frame in nanoseconds (0 if none) */
+    private long lastTime;
+
+
+
+    /**
+     * Creates a streamer with one loader thread and no budget limit
+     */
+    public SubtreeStreamer()
+    {
+        this(1);
+    }
+
+    /**
+     * Creates a new streamer
+     * @param threads number of loader threads
+     */
+    public SubtreeStreamer(int threads)
+    {
+        residencyBudget = Float.MAX_VALUE;
+        prefetchTime = 1.0f;
+        maxInitsPerFrame = 1;
+
+        loaders = Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r, "SubtreeStreamer");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        finished = new ConcurrentLinkedQueue<Load>();
+        unloading = new ArrayList<StreamingNode>();
+        attaching = new ArrayList<StreamingNode>();
+
+        lastCamera = new float[3];
+        velocity = new float[3];
+        lastTime = 0;
+    }
+
+
+    /**
+     * Sets the total residency cost of content allowed at once.
+     * The content furthest from the camera is released first.
+     * @param budget the budget
+     */
+    public void setResidencyBudget(float budget)
+    {
+        this.residencyBudget = budget;
+    }
+
+    /**
+     * Sets how far ahead of the camera content is loaded
+     * @param seconds time ahead along the camera velocity (0 = no prefetch)
+     */
+    public void setPrefetchTime(float seconds)
+    {
+        this.prefetchTime = seconds;
+    }
+
+    /**
+     * Sets how many loaded subtrees are attached and inited each frame
+     * @param count the most inits per frame
+     */
+    public void setMaxInitsPerFrame(int count)
+    {
+        this.maxInitsPerFrame = Math.max(1, count);
+    }
+
+    /**
+     * Stops the loader threads
+     */
+    public void dispose()
+    {
+        loaders.shutdown();
+    }
+
+
+    /**
+     * Loads, attaches and releases content for this frame.
+     * Unloads and attaches are done after going through the nodes because
+     * content can have streaming nodes of its own, which changes the list.
+     * Must be called on the GL thread.
+     * @param gl
+     * @param nodes the streaming nodes of the scene
+     * @param camera the camera position
+     */
+    void process(GL gl, ArrayList<StreamingNode> nodes, float[] camera)
+    {
+        updateVelocity(camera);
+
+        float aheadX = camera[0] + velocity[0] * prefetchTime;
+        float aheadY = camera[1] + velocity[1] * prefetchTime;
+        float aheadZ = camera[2] + velocity[2] * prefetchTime;
+
+        //move finished loads to their nodes
+        Load load;
+        while((load = finished.poll()) != null)
+        {
+            StreamingNode n = load.node;
+            if(n.loadGeneration != load.generation || n.streamState != StreamingNode.LOADING)
+                continue;
+
+            if(load.content != null)
+            {
+                n.loadedContent = load.content;
+                n.streamState = StreamingNode.LOADED;
+            }
+            else
+            {
+                n.streamState = StreamingNode.FAILED;
+            }
+        }
+
+        //work out distances and release content out of range
+        float committed = 0.0f;
+        for(int i = 0; i < nodes.size(); i++)
+        {
+            StreamingNode n = nodes.get(i);
+            float[] m = n.getNodeGlobalTransform();
+            n.streamDistance = Math.min(
+                    distance(m, camera[0], camera[1], camera[2]),
+                    distance(m, aheadX, aheadY, aheadZ));
+
+            int state = n.streamState;
+            if(state == StreamingNode.FAILED)
+            {
+                //try again next time the camera comes back
+                if(n.streamDistance > n.getUnloadRadius())
+                    n.streamState = StreamingNode.UNLOADED;
+                continue;
+            }
+
+            if(state != StreamingNode.UNLOADED && n.streamDistance > n.getUnloadRadius())
+                queueUnload(n);
+            else if(state != StreamingNode.UNLOADED)
+                committed += n.getResidencyCost();
+        }
+
+        //start loads and attach finished ones
+        int inits = 0;
+        for(int i = 0; i < nodes.size(); i++)
+        {
+            StreamingNode n = nodes.get(i);
+
+            if(n.streamState == StreamingNode.UNLOADED && n.streamDistance <= n.getLoadRadius())
+            {
+                //make room by releasing content further away
+                while(committed + n.getResidencyCost() > residencyBudget)
+                {
+                    StreamingNode furthest = findFurthest(nodes, n.streamDistance);
+                    if(furthest == null)
+                        break;
+
+                    committed -= furthest.getResidencyCost();
+                    queueUnload(furthest);
+                }
+
+                if(committed + n.getResidencyCost() <= residencyBudget)
+                {
+                    committed += n.getResidencyCost();
+                    startLoad(n);
+                }
+            }
+            else if(n.streamState == StreamingNode.LOADED && inits < maxInitsPerFrame)
+            {
+                attaching.add(n);
+                inits++;
+            }
+        }
+
+        for(int i = 0; i < unloading.size(); i++)
+            unloading.get(i).unload(gl);
+        unloading.clear();
+
+        //nodes can be unloaded after being picked or removed with an unloaded parent
+        for(int i = 0; i < attaching.size(); i++)
+        {
+            StreamingNode n = attaching.get(i);
+            if(n.streamState == StreamingNode.LOADED)
+                n.makeResident(gl);
+        }
+        attaching.clear();
+    }
+
+    /**
+     * Marks a node to be unloaded at the end of this frame
+     * @param n the node to unload
+     */
+    private void queueUnload(StreamingNode n)
+    {
+        n.streamState = StreamingNode.UNLOADING;
+        unloading.add(n);
+    }
+
+    /**
+     * Finds the loading or resident node furthest from the camera
+     * @param nodes the streaming nodes
+     * @param nearerThan only nodes further than this distance are returned
+     * @return the furthest node - or null if none are further
+     */
+    private static StreamingNode findFurthest(ArrayList<StreamingNode> nodes, float nearerThan)
+    {
+        StreamingNode furthest = null;
+        for(int i = 0; i < nodes.size(); i++)
+        {
+            StreamingNode n = nodes.get(i);
+            int state = n.streamState;
+            if(state == StreamingNode.UNLOADED || state == StreamingNode.FAILED || state == StreamingNode.UNLOADING)
+                continue;
+
+            if(n.streamDistance > nearerThan && (furthest == null || n.streamDistance > furthest.streamDistance))
+                furthest = n;
+        }
+        return furthest;
+    }
+
+    /**
+     * Starts loading the content of a node in the background
+     * @param n the node to load
+     */
+    private void startLoad(StreamingNode n)
+    {
+        n.loadGeneration++;
+        n.streamState = StreamingNode.LOADING;
+        loaders.execute(new Load(n, n.loadGeneration));
+    }
+
+    /**
+     * Updates the smoothed camera velocity
+     * @param camera the camera position this frame
+     */
+    private void updateVelocity(float[] camera)
+    {
+        long now = System.nanoTime();
+        if(lastTime != 0 && now > lastTime)
+        {
+            float seconds = (now - lastTime) / 1000000000.0f;
+            for(int i = 0; i < 3; i++)
+                velocity[i] = velocity[i] * 0.5f + (camera[i] - lastCamera[i]) / seconds * 0.5f;
+        }
+
+        System.arraycopy(camera, 0, lastCamera, 0, 3);
+        lastTime = now;
+    }
+
+    /**
+     * Gets the distance from a point to the origin of a transform
+     * @param m the global transform
+     * @param x point x
+     * @param y point y
+     * @param z point z
+     * @return the distance
+     */
+    private static float distance(float[] m, float x, float y, float z)
+    {
+        float dx = m[12] - x;
+        float dy = m[13] - y;
+        float dz = m[14] - z;
+        return (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+
+    /**
+     * A background load of one node
+     */
+    private class Load implements Runnable
+    {
+        /** The node being loaded */
+        final StreamingNode node;
+        /** The node load generation when started */
+        final int generation;
+        /** The loaded content (null if it failed) */
+        Node content;
+
+        /**
+         * Creates a new load
+         * @param node the node to load
+         * @param generation the node load generation
+         */
+        Load(StreamingNode node, int generation)
+        {
+            this.node = node;
+            this.generation = generation;
+        }
+
+        public void run()
+        {
+            try
+            {
+                content = node.getLoader().loadSubtree();
+            }
+            catch (IOException ex)
+            {
+                LOGGER.log(Level.SEVERE, null, ex);
+            }
+            catch (RuntimeException ex)
+            {
+                LOGGER.log(Level.SEVERE, null, ex);
+            }
+
+            finished.add(this);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+
+
+package shapes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.media.opengl.GL;
+import scene.GLTextureable;
+
+/**
+ * Indexed triangle mesh loaded from an OBJ file.
+ * Triangles are reordered for the vertex cache and the mesh is
+ * uploaded to vertex buffers once, then drawn with glDrawElements.
+ * @author Andrew
+ */
+public class GLMesh extends GLTextureable
+{
+    /** Logger for mesh loading errors */
+    private static final Logger LOGGER = Logger.getLogger(GLMesh.class.getName());
+
+    /** Bytes per interleaved vertex */
+    private static final int STRIDE = ObjLoader.VERTEX_SIZE * 4;
+
+    /** The OBJ file to load */
+    private final String objFile;
+
+    /** Mesh data waiting to be uploaded (null once uploaded) */
+    private ObjLoader mesh;
+
+    /** Vertex and index buffer ids (0 if not uploaded) */
+    private int vertexBuffer;
+    private int indexBuffer;
+    /** Number of indices to draw */
+    private int indexCount;
+    /** True if the mesh has normals and texture coordinates */
+    private boolean hasNormals;
+    private boolean hasTexCoords;
+
+    /**
+     * Creates a mesh to be loaded from an OBJ file
+     * @param objFile the OBJ file name
+     */
+    public GLMesh(String objFile)
+    {
+        this.objFile = objFile;
+        mesh = null;
+        vertexBuffer = 0;
+        indexBuffer = 0;
+        indexCount = 0;
+    }
+
+    /**
+     * Reads and optimises the mesh.
+     * Does not use GL so it can be called on a loading thread before init.
+     * @throws IOException if the file could not be read
+     */
+    public void load() throws IOException
+    {
+        ObjLoader loader = new ObjLoader();
+        loader.load(objFile);
+        VertexCacheOptimizer.optimize(loader.getIndices(), loader.getIndexCount(), loader.getVertexCount());
+        mesh = loader;
+    }
+
+    /**
+     * Checks if the mesh is ready to draw
+     * @return true if uploaded
+     */
+    public boolean meshLoaded()
+    {
+        return vertexBuffer != 0;
+    }
+
+    @Override
+    public void init(GL gl)
+    {
+        super.init(gl);
+
+        try
+        {
+            if(mesh == null && vertexBuffer == 0)
+                load();
+        }
+        catch (IOException ex)
+        {
+            LOGGER.log(Level.SEVERE, null, ex);
+            return;
+        }
+
+        if(mesh != null)
+            upload(gl);
+    }
+
+    /**
+     * Uploads the mesh to vertex buffers and drops the CPU copy
+     * @param gl
+     */
+    private void upload(GL gl)
+    {
+        int vertexBytes = mesh.getVertexCount() * STRIDE;
+        FloatBuffer vertices = ByteBuffer.allocateDirect(vertexBytes).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        vertices.put(mesh.getVertices(), 0, mesh.getVertexCount() * ObjLoader.VERTEX_SIZE);
+        vertices.flip();
+
+        IntBuffer indices = ByteBuffer.allocateDirect(mesh.getIndexCount() * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+        indices.put(mesh.getIndices(), 0, mesh.getIndexCount());
+        indices.flip();
+
+        int[] ids = new int[2];
+        gl.glGenBuffers(2, ids, 0);
+        vertexBuffer = ids[0];
+        indexBuffer = ids[1];
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vertexBuffer);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, vertexBytes, vertices, GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, indexBuffer);
+        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, mesh.getIndexCount() * 4, indices, GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+
+        indexCount = mesh.getIndexCount();
+        hasNormals = mesh.hasNormals();
+        hasTexCoords = mesh.hasTexCoords();
+
+        mesh = null;
+    }
+
+    public void update()
+    {
+    }
+
+    public boolean isUpdatable()
+    {
+        return false;
+    }
+
+    public void draw(GL gl)
+    {
+        if(vertexBuffer == 0)
+            return;
+
+        bindTexture(gl);
+
+        gl.glColor3f(1.0f, 1.0f, 1.0f);
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vertexBuffer);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, indexBuffer);
+
+        gl.glEnableClientState(GL.GL_VERTEX_ARRAY);
+        gl.glVertexPointer(3, GL.GL_FLOAT, STRIDE, 0L);
+        if(hasNormals)
+        {
+            gl.glEnableClientState(GL.GL_NORMAL_ARRAY);
+            gl.glNormalPointer(GL.GL_FLOAT, STRIDE, 12L);
+        }
+        if(hasTexCoords)
+        {
+            gl.glEnableClientState(GL.GL_TEXTURE_COORD_ARRAY);
+            gl.glTexCoordPointer(2, GL.GL_FLOAT, STRIDE, 24L);
+        }
+
+        gl.glDrawElements(GL.GL_TRIANGLES, indexCount, GL.GL_UNSIGNED_INT, 0L);
+
+        gl.glDisableClientState(GL.GL_VERTEX_ARRAY);
+        if(hasNormals)
+            gl.glDisableClientState(GL.GL_NORMAL_ARRAY);
+        if(hasTexCoords)
+            gl.glDisableClientState(GL.GL_TEXTURE_COORD_ARRAY);
+
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+        unbindTexture(gl);
+    }
+
+    @Override
+    public void release(GL gl)
+    {
+        if(vertexBuffer != 0)
+            gl.glDeleteBuffers(2, new int[]{vertexBuffer, indexBuffer}, 0);
+
+        vertexBuffer = 0;
+        indexBuffer = 0;
+        indexCount = 0;
+
+        super.release(gl);
+    }
+
+}
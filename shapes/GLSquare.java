@@ -17,6 +17,11 @@ public class GLSquare extends GLTextureable
     {
     }
 
+    public boolean isUpdatable()
+    {
+        return false;
+    }
+
     public void draw(GL gl)
     {
 
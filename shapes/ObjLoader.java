@@ -0,0 +1,561 @@
+
+
+package shapes;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Streaming Wavefront OBJ parser.
+ * Reads positions, texture coordinates, normals and faces straight from a
+ * memory mapped file without making strings, and merges identical
+ * position/texcoord/normal corners into one indexed vertex.
+ * Vertices are interleaved as x, y, z, nx, ny, nz, u, v.
+ * @author Andrew
+ */
+public class ObjLoader
+{
+    /** Floats per output vertex */
+    public static final int VERTEX_SIZE = 8;
+
+    /** Powers of ten for parsing */
+    private static final double[] POWERS_OF_TEN = new double[39];
+    static
+    {
+        POWERS_OF_TEN[0] = 1.0;
+        for(int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+    }
+
+    /** Positions, texcoords and normals as read from the file */
+    private float[] positions;
+    private int positionCount;
+    private float[] texCoords;
+    private int texCoordCount;
+    private float[] normals;
+    private int normalCount;
+
+    /** Output interleaved vertices */
+    private float[] vertices;
+    private int vertexCount;
+    /** Output triangle indices */
+    private int[] indices;
+    private int indexCount;
+
+    /** Hash table from position/texcoord/normal corner to vertex index */
+    private int[] keyPosition;
+    private int[] keyTexCoord;
+    private int[] keyNormal;
+    private int[] keyVertex;
+
+    /** Corners of the face being read */
+    private int[] faceVertices;
+
+    /** The data being parsed and the read position */
+    private ByteBuffer data;
+    private int pos;
+    private int limit;
+
+
+
+    /**
+     * Creates a new OBJ loader
+     */
+    public ObjLoader()
+    {
+        positions = new float[3 * 1024];
+        texCoords = new float[2 * 1024];
+        normals = new float[3 * 1024];
+        vertices = new float[VERTEX_SIZE * 1024];
+        indices = new int[3 * 1024];
+        faceVertices = new int[16];
+        createTable(4096);
+    }
+
+
+    /**
+     * Memory maps and parses an OBJ file
+     * @param fileName the file to read
+     * @throws IOException if the file could not be read or is bad
+     */
+    public void load(String fileName) throws IOException
+    {
+        RandomAccessFile file = new RandomAccessFile(new File(fileName), "r");
+        try
+        {
+            FileChannel channel = file.getChannel();
+            if(channel.size() > Integer.MAX_VALUE)
+                throw new IOException("OBJ file is too large: " + fileName);
+
+            parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        finally
+        {
+            file.close();
+        }
+    }
+
+    /**
+     * Parses OBJ data
+     * @param buffer the OBJ file contents
+     * @throws IOException if the data is bad
+     */
+    public void parse(ByteBuffer buffer) throws IOException
+    {
+        data = buffer;
+        pos = buffer.position();
+        limit = buffer.limit();
+
+        positionCount = 0;
+        texCoordCount = 0;
+        normalCount = 0;
+        vertexCount = 0;
+        indexCount = 0;
+        createTable(keyVertex.length);
+
+        while(pos < limit)
+        {
+            skipSpaces();
+            if(pos >= limit)
+                break;
+
+            byte c = data.get(pos);
+            byte next = pos + 1 < limit ? data.get(pos + 1) : (byte) '\n';
+
+            if(c == 'v' && isSpace(next))
+            {
+                pos++;
+                positions = ensure(positions, positionCount * 3 + 3);
+                for(int i = 0; i < 3; i++)
+                    positions[positionCount * 3 + i] = parseFloat();
+                positionCount++;
+            }
+            else if(c == 'v' && next == 't')
+            {
+                pos += 2;
+                texCoords = ensure(texCoords, texCoordCount * 2 + 2);
+                texCoords[texCoordCount * 2] = parseFloat();
+                texCoords[texCoordCount * 2 + 1] = parseFloat();
+                texCoordCount++;
+            }
+            else if(c == 'v' && next == 'n')
+            {
+                pos += 2;
+                normals = ensure(normals, normalCount * 3 + 3);
+                for(int i = 0; i < 3; i++)
+                    normals[normalCount * 3 + i] = parseFloat();
+                normalCount++;
+            }
+            else if(c == 'f' && isSpace(next))
+            {
+                pos++;
+                parseFace();
+            }
+
+            skipLine();
+        }
+
+        data = null;
+    }
+
+
+    /**
+     * Reads a face and adds it as a fan of triangles
+     * @throws IOException if the face is bad
+     */
+    private void parseFace() throws IOException
+    {
+        int corners = 0;
+
+        while(true)
+        {
+            skipSpaces();
+            if(pos >= limit || isEndOfLine(data.get(pos)))
+                break;
+
+            int p = resolve(parseInt(), positionCount);
+            int t = -1;
+            int n = -1;
+
+            if(pos < limit && data.get(pos) == '/')
+            {
+                pos++;
+                if(pos < limit && data.get(pos) != '/')
+                    t = resolve(parseInt(), texCoordCount);
+
+                if(pos < limit && data.get(pos) == '/')
+                {
+                    pos++;
+                    n = resolve(parseInt(), normalCount);
+                }
+            }
+
+            if(corners == faceVertices.length)
+            {
+                int[] bigger = new int[corners * 2];
+                System.arraycopy(faceVertices, 0, bigger, 0, corners);
+                faceVertices = bigger;
+            }
+            faceVertices[corners++] = vertexFor(p, t, n);
+        }
+
+        if(corners < 3)
+            throw new IOException("OBJ face with less than 3 corners");
+
+        indices = ensure(indices, indexCount + (corners - 2) * 3);
+        for(int i = 2; i < corners; i++)
+        {
+            indices[indexCount++] = faceVertices[0];
+            indices[indexCount++] = faceVertices[i - 1];
+            indices[indexCount++] = faceVertices[i];
+        }
+    }
+
+    /**
+     * Turns a 1 based (or negative relative) OBJ index into a 0 based index
+     * @param index the OBJ index
+     * @param count the number of elements read so far
+     * @return the 0 based index
+     * @throws IOException if the index is out of range
+     */
+    private static int resolve(int index, int count) throws IOException
+    {
+        int resolved = index < 0 ? count + index : index - 1;
+        if(resolved < 0 || resolved >= count)
+            throw new IOException("OBJ index out of range: " + index);
+        return resolved;
+    }
+
+    /**
+     * Gets the output vertex for a corner, adding it if it is new
+     * @param p position index
+     * @param t texcoord index (-1 if none)
+     * @param n normal index (-1 if none)
+     * @return the output vertex index
+     */
+    private int vertexFor(int p, int t, int n)
+    {
+        int mask = keyVertex.length - 1;
+        int slot = hash(p, t, n) & mask;
+
+        while(keyVertex[slot] >= 0)
+        {
+            if(keyPosition[slot] == p && keyTexCoord[slot] == t && keyNormal[slot] == n)
+                return keyVertex[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        int v = vertexCount++;
+        keyPosition[slot] = p;
+        keyTexCoord[slot] = t;
+        keyNormal[slot] = n;
+        keyVertex[slot] = v;
+
+        vertices = ensure(vertices, vertexCount * VERTEX_SIZE);
+        int o = v * VERTEX_SIZE;
+        vertices[o] = positions[p * 3];
+        vertices[o + 1] = positions[p * 3 + 1];
+        vertices[o + 2] = positions[p * 3 + 2];
+        if(n >= 0)
+        {
+            vertices[o + 3] = normals[n * 3];
+            vertices[o + 4] = normals[n * 3 + 1];
+            vertices[o + 5] = normals[n * 3 + 2];
+        }
+        if(t >= 0)
+        {
+            vertices[o + 6] = texCoords[t * 2];
+            vertices[o + 7] = texCoords[t * 2 + 1];
+        }
+
+        //keep the table at most half full
+        if(vertexCount * 2 > keyVertex.length)
+            growTable();
+
+        return v;
+    }
+
+    /**
+     * Hashes a corner
+     */
+    private static int hash(int p, int t, int n)
+    {
+        int h = p * 0x9E3779B1 ^ (t + 1) * 0x85EBCA77 ^ (n + 1) * 0xC2B2AE3D;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Creates an empty corner hash table
+     * @param size number of slots (power of two)
+     */
+    private void createTable(int size)
+    {
+        keyPosition = new int[size];
+        keyTexCoord = new int[size];
+        keyNormal = new int[size];
+        keyVertex = new int[size];
+        Arrays.fill(keyVertex, -1);
+    }
+
+    /**
+     * Doubles the corner hash table
+     */
+    private void growTable()
+    {
+        int[] oldPosition = keyPosition;
+        int[] oldTexCoord = keyTexCoord;
+        int[] oldNormal = keyNormal;
+        int[] oldVertex = keyVertex;
+
+        createTable(oldVertex.length * 2);
+        int mask = keyVertex.length - 1;
+
+        for(int i = 0; i < oldVertex.length; i++)
+        {
+            if(oldVertex[i] < 0)
+                continue;
+
+            int slot = hash(oldPosition[i], oldTexCoord[i], oldNormal[i]) & mask;
+            while(keyVertex[slot] >= 0)
+                slot = (slot + 1) & mask;
+
+            keyPosition[slot] = oldPosition[i];
+            keyTexCoord[slot] = oldTexCoord[i];
+            keyNormal[slot] = oldNormal[i];
+            keyVertex[slot] = oldVertex[i];
+        }
+    }
+
+
+    /**
+     * Reads a (possibly signed) integer
+     * @return the value
+     * @throws IOException if there is no number
+     */
+    private int parseInt() throws IOException
+    {
+        boolean negative = false;
+        if(pos < limit && data.get(pos) == '-')
+        {
+            negative = true;
+            pos++;
+        }
+
+        int start = pos;
+        int value = 0;
+        while(pos < limit)
+        {
+            int d = data.get(pos) - '0';
+            if(d < 0 || d > 9)
+                break;
+            value = value * 10 + d;
+            pos++;
+        }
+
+        if(pos == start)
+            throw new IOException("Bad OBJ number at byte " + pos);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads a float like -1.25e-3
+     * @return the value
+     * @throws IOException if there is no number
+     */
+    private float parseFloat() throws IOException
+    {
+        skipSpaces();
+
+        boolean negative = false;
+        if(pos < limit && (data.get(pos) == '-' || data.get(pos) == '+'))
+        {
+            negative = data.get(pos) == '-';
+            pos++;
+        }
+
+        int start = pos;
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+
+        while(pos < limit)
+        {
+            int d = data.get(pos) - '0';
+            if(d < 0 || d > 9)
+                break;
+            if(digits < 18)
+            {
+                //leading zeros are not significant digits
+                mantissa = mantissa * 10 + d;
+                if(mantissa != 0)
+                    digits++;
+            }
+            else
+            {
+                exponent++;
+            }
+            pos++;
+        }
+
+        if(pos < limit && data.get(pos) == '.')
+        {
+            pos++;
+            while(pos < limit)
+            {
+                int d = data.get(pos) - '0';
+                if(d < 0 || d > 9)
+                    break;
+                if(digits < 18)
+                {
+                    mantissa = mantissa * 10 + d;
+                    if(mantissa != 0)
+                        digits++;
+                    exponent--;
+                }
+                pos++;
+            }
+        }
+
+        if(pos == start)
+            throw new IOException("Bad OBJ number at byte " + pos);
+
+        if(pos < limit && (data.get(pos) == 'e' || data.get(pos) == 'E'))
+        {
+            pos++;
+            if(pos < limit && data.get(pos) == '+')
+                pos++;
+            exponent += parseInt();
+        }
+
+        double value = mantissa;
+        int last = POWERS_OF_TEN.length - 1;
+        if(mantissa != 0 && exponent < 0)
+        {
+            //up to 18 digits so small floats can need two steps (1.2345678e-32 is 12345678e-39)
+            if(exponent < -last)
+            {
+                value /= POWERS_OF_TEN[last];
+                exponent += last;
+            }
+            value = -exponent <= last ? value / POWERS_OF_TEN[-exponent] : 0.0;
+        }
+        else if(mantissa != 0 && exponent > 0)
+        {
+            value = exponent <= last ? value * POWERS_OF_TEN[exponent] : Double.POSITIVE_INFINITY;
+        }
+
+        return (float) (negative ? -value : value);
+    }
+
+    /**
+     * Skips spaces and tabs
+     */
+    private void skipSpaces()
+    {
+        while(pos < limit && isSpace(data.get(pos)))
+            pos++;
+    }
+
+    /**
+     * Skips to the start of the next line
+     */
+    private void skipLine()
+    {
+        while(pos < limit && data.get(pos) != '\n')
+            pos++;
+        pos++;
+    }
+
+    private static boolean isSpace(byte c)
+    {
+        return c == ' ' || c == '\t';
+    }
+
+    private static boolean isEndOfLine(byte c)
+    {
+        return c == '\n' || c == '\r' || c == '#';
+    }
+
+    /**
+     * Grows an array to hold at least a number of values
+     */
+    private static float[] ensure(float[] array, int size)
+    {
+        if(size <= array.length)
+            return array;
+        float[] bigger = new float[Math.max(size, array.length * 2)];
+        System.arraycopy(array, 0, bigger, 0, array.length);
+        return bigger;
+    }
+
+    /**
+     * Grows an array to hold at least a number of values
+     */
+    private static int[] ensure(int[] array, int size)
+    {
+        if(size <= array.length)
+            return array;
+        int[] bigger = new int[Math.max(size, array.length * 2)];
+        System.arraycopy(array, 0, bigger, 0, array.length);
+        return bigger;
+    }
+
+
+    /**
+     * Gets the interleaved vertices (x, y, z, nx, ny, nz, u, v)
+     * @return the vertex array (may be longer than needed)
+     */
+    public float[] getVertices()
+    {
+        return vertices;
+    }
+
+    /**
+     * Gets the number of vertices
+     * @return the vertex count
+     */
+    public int getVertexCount()
+    {
+        return vertexCount;
+    }
+
+    /**
+     * Gets the triangle indices
+     * @return the index array (may be longer than needed)
+     */
+    public int[] getIndices()
+    {
+        return indices;
+    }
+
+    /**
+     * Gets the number of indices
+     * @return the index count (3 per triangle)
+     */
+    public int getIndexCount()
+    {
+        return indexCount;
+    }
+
+    /**
+     * Checks if the file had normals
+     * @return true if there are normals
+     */
+    public boolean hasNormals()
+    {
+        return normalCount > 0;
+    }
+
+    /**
+     * Checks if the file had texture coordinates
+     * @return true if there are texture coordinates
+     */
+    public boolean hasTexCoords()
+    {
+        return texCoordCount > 0;
+    }
+}
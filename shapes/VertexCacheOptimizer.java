@@ -0,0 +1,222 @@
+
+
+package shapes;
+
+/**
+ * Reorders triangles so the GPU post-transform vertex cache is reused
+ * as much as possible (Tom Forsyth's linear-speed algorithm).
+ * @author Andrew
+ */
+public class VertexCacheOptimizer
+{
+    /** Size of the simulated vertex cache */
+    private static final int CACHE_SIZE = 32;
+
+    /** Score tuning from the original algorithm */
+    private static final float CACHE_DECAY_POWER = 1.5f;
+    private static final float LAST_TRIANGLE_SCORE = 0.75f;
+    private static final float VALENCE_BOOST_SCALE = 2.0f;
+    private static final float VALENCE_BOOST_POWER = 0.5f;
+
+    /** Most remaining triangles with a precalculated valence score */
+    private static final int MAX_VALENCE = 64;
+
+    /** Precalculated scores by cache position and remaining triangles */
+    private static final float[] CACHE_SCORES = new float[CACHE_SIZE];
+    private static final float[] VALENCE_SCORES = new float[MAX_VALENCE];
+    static
+    {
+        for(int i = 0; i < CACHE_SIZE; i++)
+        {
+            if(i < 3)
+            {
+                //the last triangle was just drawn so these are less useful
+                CACHE_SCORES[i] = LAST_TRIANGLE_SCORE;
+            }
+            else
+            {
+                float scaler = 1.0f / (CACHE_SIZE - 3);
+                CACHE_SCORES[i] = (float) Math.pow(1.0f - (i - 3) * scaler, CACHE_DECAY_POWER);
+            }
+        }
+
+        for(int i = 1; i < MAX_VALENCE; i++)
+            VALENCE_SCORES[i] = VALENCE_BOOST_SCALE * (float) Math.pow(i, -VALENCE_BOOST_POWER);
+    }
+
+    /**
+     * Utility class
+     */
+    private VertexCacheOptimizer()
+    {
+    }
+
+
+    /**
+     * Reorders the triangles of an index list in place
+     * @param indices triangle indices
+     * @param indexCount number of indices (3 per triangle)
+     * @param vertexCount number of vertices
+     */
+    public static void optimize(int[] indices, int indexCount, int vertexCount)
+    {
+        int triangleCount = indexCount / 3;
+        if(triangleCount == 0)
+            return;
+
+        //triangles using each vertex
+        int[] triangleStart = new int[vertexCount + 1];
+        for(int i = 0; i < indexCount; i++)
+            triangleStart[indices[i] + 1]++;
+        for(int v = 0; v < vertexCount; v++)
+            triangleStart[v + 1] += triangleStart[v];
+
+        int[] vertexTriangles = new int[indexCount];
+        int[] fill = new int[vertexCount];
+        for(int i = 0; i < indexCount; i++)
+        {
+            int v = indices[i];
+            vertexTriangles[triangleStart[v] + fill[v]++] = i / 3;
+        }
+
+        //fill now holds the number of triangles left to draw for each vertex
+        int[] cachePosition = new int[vertexCount];
+        float[] vertexScore = new float[vertexCount];
+        for(int v = 0; v < vertexCount; v++)
+        {
+            cachePosition[v] = -1;
+            vertexScore[v] = score(-1, fill[v]);
+        }
+
+        float[] triangleScore = new float[triangleCount];
+        boolean[] added = new boolean[triangleCount];
+        for(int t = 0; t < triangleCount; t++)
+            triangleScore[t] = vertexScore[indices[t * 3]] + vertexScore[indices[t * 3 + 1]] + vertexScore[indices[t * 3 + 2]];
+
+        int[] cache = new int[CACHE_SIZE + 3];
+        int[] newCache = new int[CACHE_SIZE + 3];
+        int cacheCount = 0;
+
+        int[] output = new int[indexCount];
+        int outputCount = 0;
+        int scanFrom = 0;
+
+        int best = bestTriangle(triangleScore, added, 0);
+        while(best >= 0)
+        {
+            added[best] = true;
+
+            //emit the triangle and put its vertices at the front of the cache
+            int newCount = 0;
+            for(int c = 0; c < 3; c++)
+            {
+                int v = indices[best * 3 + c];
+                output[outputCount++] = v;
+                newCache[newCount++] = v;
+
+                //take the triangle off the vertex list of remaining triangles
+                int end = triangleStart[v] + fill[v];
+                for(int i = triangleStart[v]; i < end; i++)
+                {
+                    if(vertexTriangles[i] == best)
+                    {
+                        vertexTriangles[i] = vertexTriangles[end - 1];
+                        break;
+                    }
+                }
+                fill[v]--;
+            }
+
+            for(int i = 0; i < cacheCount; i++)
+            {
+                int v = cache[i];
+                if(v != newCache[0] && v != newCache[1] && v != newCache[2])
+                    newCache[newCount++] = v;
+            }
+
+            int[] swap = cache;
+            cache = newCache;
+            newCache = swap;
+            cacheCount = newCount;
+
+            //rescore vertices in (or just pushed out of) the cache
+            for(int i = 0; i < cacheCount; i++)
+            {
+                int v = cache[i];
+                cachePosition[v] = i < CACHE_SIZE ? i : -1;
+                vertexScore[v] = score(cachePosition[v], fill[v]);
+            }
+
+            //rescore their triangles and find the best one
+            best = -1;
+            float bestScore = -1.0f;
+            for(int i = 0; i < cacheCount; i++)
+            {
+                int v = cache[i];
+                int end = triangleStart[v] + fill[v];
+                for(int j = triangleStart[v]; j < end; j++)
+                {
+                    int t = vertexTriangles[j];
+                    float s = vertexScore[indices[t * 3]] + vertexScore[indices[t * 3 + 1]] + vertexScore[indices[t * 3 + 2]];
+                    triangleScore[t] = s;
+                    if(s > bestScore)
+                    {
+                        bestScore = s;
+                        best = t;
+                    }
+                }
+            }
+
+            if(cacheCount > CACHE_SIZE)
+                cacheCount = CACHE_SIZE;
+
+            //nothing left near the cache so carry on from the next unused triangle
+            if(best < 0)
+            {
+                while(scanFrom < triangleCount && added[scanFrom])
+                    scanFrom++;
+                best = scanFrom < triangleCount ? scanFrom : -1;
+            }
+        }
+
+        System.arraycopy(output, 0, indices, 0, indexCount);
+    }
+
+    /**
+     * Finds the highest scoring triangle not yet added
+     * @param scores triangle scores
+     * @param added true for triangles already added
+     * @param from first triangle to look at
+     * @return the triangle - or -1 if all are added
+     */
+    private static int bestTriangle(float[] scores, boolean[] added, int from)
+    {
+        int best = -1;
+        for(int t = from; t < scores.length; t++)
+        {
+            if(!added[t] && (best < 0 || scores[t] > scores[best]))
+                best = t;
+        }
+        return best;
+    }
+
+    /**
+     * Scores a vertex by its cache position and remaining triangles
+     * @param cachePosition position in the cache (-1 if not in cache)
+     * @param remaining number of triangles left that use the vertex
+     * @return the score
+     */
+    private static float score(int cachePosition, int remaining)
+    {
+        if(remaining == 0)
+            return -1.0f;
+
+        float score = cachePosition >= 0 ? CACHE_SCORES[cachePosition] : 0.0f;
+
+        if(remaining < MAX_VALENCE)
+            score += VALENCE_SCORES[remaining];
+        else
+            score += VALENCE_BOOST_SCALE * (float) Math.pow(remaining, -VALENCE_BOOST_POWER);
+        return score;
+    }
+}
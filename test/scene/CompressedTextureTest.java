@@ -0,0 +1,266 @@
+
+
+package scene;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import javax.media.opengl.GL;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests reading KTX and DDS headers from generated files
+ * @author Andrew
+ */
+public class CompressedTextureTest
+{
+    /** Four CC codes */
+    private static final int DXT1 = 0x31545844;
+    private static final int DXT5 = 0x35545844;
+    private static final int DX10 = 0x30315844;
+
+
+    /**
+     * Makes a DDS file
+     * @param fourCC the four CC code
+     * @param width the width
+     * @param height the height
+     * @param mipCount the number of levels
+     * @param dataBytes the bytes after the headers
+     * @return the file contents
+     */
+    private static ByteBuffer dds(int fourCC, int width, int height, int mipCount, int dataBytes)
+    {
+        int headerBytes = fourCC == DX10 ? 148 : 128;
+        ByteBuffer b = ByteBuffer.allocate(headerBytes + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        b.putInt(0, 0x20534444);
+        b.putInt(4, 124);
+        b.putInt(8, 0x1 | 0x2 | 0x4 | 0x1000 | 0x20000);
+        b.putInt(12, height);
+        b.putInt(16, width);
+        b.putInt(28, mipCount);
+        b.putInt(76, 32);
+        b.putInt(80, 0x4);
+        b.putInt(84, fourCC);
+        b.putInt(108, 0x1000);
+        if(fourCC == DX10)
+        {
+            b.putInt(132, 3);   //2D
+            b.putInt(140, 1);   //array size
+        }
+        return b;
+    }
+
+    /**
+     * Makes a DX10 DDS file with one 4x4 level
+     * @param dxgi the DXGI format
+     * @return the file contents
+     */
+    private static ByteBuffer dx10(int dxgi)
+    {
+        ByteBuffer b = dds(DX10, 4, 4, 1, 16);
+        b.putInt(128, dxgi);
+        return b;
+    }
+
+    /**
+     * Makes a KTX file
+     * @param order the byte order to write in
+     * @param format the GL internal format
+     * @param levelSizes the byte size of each level
+     * @return the file contents
+     */
+    private static ByteBuffer ktx(ByteOrder order, int format, int... levelSizes)
+    {
+        int size = 64 + 8;
+        for(int i = 0; i < levelSizes.length; i++)
+            size += 4 + ((levelSizes[i] + 3) & ~3);
+
+        ByteBuffer b = ByteBuffer.allocate(size).order(order);
+        byte[] id = {(byte) 0xAB, 0x4B, 0x54, 0x58, 0x20, 0x31, 0x31, (byte) 0xBB, 0x0D, 0x0A, 0x1A, 0x0A};
+        b.put(id);
+        b.putInt(12, 0x04030201);
+        b.putInt(28, format);
+        b.putInt(36, 16);
+        b.putInt(40, 8);
+        b.putInt(52, 1);
+        b.putInt(56, levelSizes.length);
+        b.putInt(60, 8);    //key value data
+
+        int offset = 72;
+        for(int i = 0; i < levelSizes.length; i++)
+        {
+            b.putInt(offset, levelSizes[i]);
+            offset += 4 + ((levelSizes[i] + 3) & ~3);
+        }
+        b.rewind();
+        return b;
+    }
+
+    /**
+     * Checks a texture can not be read
+     * @param data the file contents
+     */
+    private static void assertRejected(ByteBuffer data)
+    {
+        try
+        {
+            CompressedTexture.read(data);
+            fail("texture was read");
+        }
+        catch (IOException ex)
+        {
+            //expected
+        }
+    }
+
+
+    @Test
+    public void readsDXT1Levels() throws IOException
+    {
+        //16x8 has levels 16x8, 8x4, 4x2, 2x1 and 1x1
+        ByteBuffer b = dds(DXT1, 16, 8, 5, 64 + 16 + 8 + 8 + 8);
+        CompressedTexture t = CompressedTexture.read(b);
+
+        assertEquals(GL.GL_COMPRESSED_RGB_S3TC_DXT1_EXT, t.getInternalFormat());
+        assertEquals(16, t.getWidth());
+        assertEquals(8, t.getHeight());
+        assertEquals(5, t.getLevelCount());
+        assertEquals(64, t.getLevel(0).remaining());
+        assertEquals(16, t.getLevel(1).remaining());
+        assertEquals(8, t.getLevel(4).remaining());
+    }
+
+    @Test
+    public void readsDXT5() throws IOException
+    {
+        CompressedTexture t = CompressedTexture.read(dds(DXT5, 8, 8, 1, 64));
+        assertEquals(GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, t.getInternalFormat());
+        assertEquals(1, t.getLevelCount());
+    }
+
+    @Test
+    public void keepsSRGBFormats() throws IOException
+    {
+        assertEquals(GL.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT, CompressedTexture.read(dx10(71)).getInternalFormat());
+        assertEquals(GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1_EXT, CompressedTexture.read(dx10(72)).getInternalFormat());
+        assertEquals(GL.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT, CompressedTexture.read(dx10(74)).getInternalFormat());
+        assertEquals(GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3_EXT, CompressedTexture.read(dx10(75)).getInternalFormat());
+        assertEquals(GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, CompressedTexture.read(dx10(77)).getInternalFormat());
+        assertEquals(GL.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5_EXT, CompressedTexture.read(dx10(78)).getInternalFormat());
+
+        //sRGB DXT1 still has 8 byte blocks
+        assertEquals(8, CompressedTexture.read(dx10(72)).getLevel(0).remaining());
+    }
+
+    @Test
+    public void rejectsCubemapsVolumesAndArrays()
+    {
+        ByteBuffer cube = dds(DXT1, 4, 4, 1, 8 * 6);
+        cube.putInt(112, 0x200 | 0xFC00);
+        assertRejected(cube);
+
+        ByteBuffer volume = dds(DXT1, 4, 4, 1, 8 * 4);
+        volume.putInt(112, 0x200000);
+        assertRejected(volume);
+
+        ByteBuffer dx10Cube = dx10(71);
+        dx10Cube.putInt(136, 0x4);
+        assertRejected(dx10Cube);
+
+        ByteBuffer array = dx10(71);
+        array.putInt(140, 2);
+        assertRejected(array);
+
+        ByteBuffer texture3D = dx10(71);
+        texture3D.putInt(132, 4);
+        assertRejected(texture3D);
+    }
+
+    @Test
+    public void rejectsBadDDS()
+    {
+        //uncompressed
+        ByteBuffer rgba = dds(DXT1, 4, 4, 1, 8);
+        rgba.putInt(80, 0x40);
+        assertRejected(rgba);
+
+        //unknown DXGI format
+        assertRejected(dx10(98));
+
+        //truncated data
+        assertRejected(dds(DXT1, 16, 16, 1, 100));
+
+        assertRejected(dds(DXT1, 0, 4, 1, 8));
+    }
+
+    @Test
+    public void readsKTXInBothByteOrders() throws IOException
+    {
+        ByteOrder[] orders = {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN};
+        for(int i = 0; i < orders.length; i++)
+        {
+            CompressedTexture t = CompressedTexture.read(ktx(orders[i], GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 128, 32, 18));
+            assertEquals(GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, t.getInternalFormat());
+            assertEquals(16, t.getWidth());
+            assertEquals(8, t.getHeight());
+            assertEquals(3, t.getLevelCount());
+            assertEquals(128, t.getLevel(0).remaining());
+            assertEquals(18, t.getLevel(2).remaining());
+        }
+    }
+
+    @Test
+    public void rejectsBadKTX()
+    {
+        ByteBuffer cube = ktx(ByteOrder.LITTLE_ENDIAN, GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 128);
+        cube.putInt(52, 6);
+        assertRejected(cube);
+
+        ByteBuffer array = ktx(ByteOrder.LITTLE_ENDIAN, GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 128);
+        array.putInt(48, 4);
+        assertRejected(array);
+
+        ByteBuffer uncompressed = ktx(ByteOrder.LITTLE_ENDIAN, GL.GL_RGBA8, 512);
+        uncompressed.putInt(16, GL.GL_UNSIGNED_BYTE);
+        assertRejected(uncompressed);
+
+        //level size past the end of the file
+        ByteBuffer truncated = ktx(ByteOrder.LITTLE_ENDIAN, GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 128);
+        truncated.putInt(72, 1000);
+        assertRejected(truncated);
+
+        assertRejected(ByteBuffer.allocate(200));
+    }
+
+    @Test
+    public void loadsMappedFiles() throws IOException
+    {
+        File file = File.createTempFile("texture", ".dds");
+        try
+        {
+            FileOutputStream out = new FileOutputStream(file);
+            try
+            {
+                out.write(dds(DXT5, 8, 4, 2, 32 + 16).array());
+            }
+            finally
+            {
+                out.close();
+            }
+
+            assertTrue(CompressedTexture.isCompressedFile(file.getName()));
+            CompressedTexture t = CompressedTexture.load(file.getPath());
+            assertEquals(2, t.getLevelCount());
+            assertEquals(32, t.getLevel(0).remaining());
+            assertEquals(16, t.getLevel(1).remaining());
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+}
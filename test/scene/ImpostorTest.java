@@ -0,0 +1,246 @@
+
+
+package scene;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.media.opengl.GL;
+import org.junit.Before;
+import org.junit.Test;
+import tools.CountingGL;
+import static org.junit.Assert.*;
+
+/**
+ * Tests when impostor images are rendered again and where they are drawn
+ * @author Andrew
+ */
+public class ImpostorTest
+{
+    /**
+     * Node that counts how often it is drawn
+     */
+    private static class CountingNode extends Node
+    {
+        int draws;
+
+        CountingNode(String name)
+        {
+            super(name);
+        }
+
+        @Override
+        public void draw(GL gl)
+        {
+            draws++;
+            super.draw(gl);
+        }
+    }
+
+    /**
+     * GL that remembers the last vertex, programs and framebuffers used
+     * and must not be read back
+     */
+    private static class VertexGL extends CountingGL
+    {
+        float x, y, z;
+        List<Integer> programs = new ArrayList<Integer>();
+        List<Integer> framebuffers = new ArrayList<Integer>();
+
+        @Override
+        public void glVertex3f(float x, float y, float z)
+        {
+            super.glVertex3f(x, y, z);
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public void glUseProgram(int program)
+        {
+            super.glUseProgram(program);
+            programs.add(program);
+        }
+
+        @Override
+        public void glBindFramebufferEXT(int target, int framebuffer)
+        {
+            super.glBindFramebufferEXT(target, framebuffer);
+            framebuffers.add(framebuffer);
+        }
+
+        @Override
+        public void glGetFloatv(int pname, float[] params, int offset)
+        {
+            fail("matrix read back from GL");
+        }
+
+        @Override
+        public void glGetFloatv(int pname, FloatBuffer params)
+        {
+            fail("matrix read back from GL");
+        }
+
+        @Override
+        public void glGetIntegerv(int pname, int[] params, int offset)
+        {
+            fail("state read back from GL");
+        }
+
+        @Override
+        public void glGetIntegerv(int pname, IntBuffer params)
+        {
+            fail("state read back from GL");
+        }
+    }
+
+
+    private Scene scene;
+    private VertexGL gl;
+
+    @Before
+    public void setUp()
+    {
+        scene = new Scene();
+        gl = new VertexGL();
+    }
+
+    /**
+     * Makes a node drawn as an impostor
+     * @param name the node name
+     * @return the node
+     */
+    private static Node impostorNode(String name)
+    {
+        Node n = new Node(name);
+        n.setBoundingRadius(1.0f);
+        n.setImpostor(10.0f, 5.0f, 0.1f, 16);
+        return n;
+    }
+
+
+    @Test
+    public void imageIsReusedUntilTheSubtreeChanges()
+    {
+        Node group = impostorNode("group");
+        group.setTranslation(0.0f, 0.0f, -50.0f);
+        CountingNode child = new CountingNode("child");
+        group.addChild(child);
+        scene.getRootNode().addChild(group);
+
+        scene.draw(gl);
+        scene.draw(gl);
+        assertEquals(1, child.draws);
+
+        child.setTranslation(0.5f, 0.0f, 0.0f);
+        scene.draw(gl);
+        assertEquals(2, child.draws);
+    }
+
+    @Test
+    public void movingAChildOutRendersTheOldParentAgain()
+    {
+        Node group = impostorNode("group");
+        group.setTranslation(0.0f, 0.0f, -50.0f);
+        CountingNode stays = new CountingNode("stays");
+        Node moves = new Node("moves");
+        group.addChild(stays);
+        group.addChild(moves);
+
+        Node other = new Node("other");
+        scene.getRootNode().addChild(group);
+        scene.getRootNode().addChild(other);
+
+        scene.draw(gl);
+        assertEquals(1, stays.draws);
+
+        //the old image still shows the moved child
+        other.addChild(moves);
+        scene.draw(gl);
+        assertEquals(2, stays.draws);
+    }
+
+    @Test
+    public void quadIsPlacedWithTheViewMatrix()
+    {
+        Node n = impostorNode("node");
+        n.setTranslation(0.0f, 0.0f, -40.0f);
+        scene.getRootNode().addChild(n);
+
+        float[] view = new float[16];
+        view[0] = 1.0f;
+        view[5] = 1.0f;
+        view[10] = 1.0f;
+        view[15] = 1.0f;
+        view[14] = -10.0f;
+        scene.setViewMatrix(view);
+        scene.draw(gl);
+
+        //last corner is centre - right - up
+        assertEquals(-1.0f, gl.x, 0.0001f);
+        assertEquals(-1.0f, gl.y, 0.0001f);
+        assertEquals(-50.0f, gl.z, 0.0001f);
+    }
+
+    @Test
+    public void shaderProgramIsTurnedBackOnAfterTheQuad()
+    {
+        ShaderNode shader = new ShaderNode("shader");
+        Node n = impostorNode("node");
+        n.setTranslation(0.0f, 0.0f, -50.0f);
+        shader.addChild(n);
+        scene.getRootNode().addChild(shader);
+        scene.init(gl);
+        int program = shader.getShaderProgram();
+        assertTrue(program > 0);
+
+        scene.draw(gl);
+
+        //on, off for the quad, back on, then off after the shader node
+        assertEquals(4, gl.programs.size());
+        assertEquals(program, gl.programs.get(0).intValue());
+        assertEquals(0, gl.programs.get(1).intValue());
+        assertEquals(program, gl.programs.get(2).intValue());
+        assertEquals(0, gl.programs.get(3).intValue());
+    }
+
+    @Test
+    public void nestedImpostorsBindTheOuterFramebufferAgain()
+    {
+        Node outer = impostorNode("outer");
+        outer.setBoundingRadius(5.0f);
+        outer.setTranslation(0.0f, 0.0f, -50.0f);
+        Node inner = impostorNode("inner");
+        inner.setTranslation(2.0f, 0.0f, 0.0f);
+        outer.addChild(inner);
+        scene.getRootNode().addChild(outer);
+
+        scene.draw(gl);
+
+        //outer is made and rendered, inner is made and rendered inside it
+        List<Integer> binds = gl.framebuffers;
+        assertEquals(8, binds.size());
+        int o = binds.get(0);
+        int i = binds.get(3);
+        assertTrue(o != 0 && i != 0 && o != i);
+        Integer[] expected = {o, 0, o, i, o, i, o, 0};
+        for(int k = 0; k < expected.length; k++)
+            assertEquals("bind " + k, expected[k], binds.get(k));
+    }
+
+    @Test
+    public void nearNodesAreDrawnNormally()
+    {
+        Node group = impostorNode("group");
+        group.setTranslation(0.0f, 0.0f, -5.0f);
+        CountingNode child = new CountingNode("child");
+        group.addChild(child);
+        scene.getRootNode().addChild(group);
+
+        scene.draw(gl);
+        scene.draw(gl);
+        assertEquals(2, child.draws);
+    }
+}
@@ -0,0 +1,175 @@
+
+
+package scene;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests which nodes the scene updates
+ * @author Andrew
+ */
+public class NodeUpdateTest
+{
+    /**
+     * A node written before updateSelf() that overrides update()
+     */
+    private static class OldNode extends Node
+    {
+        int updates;
+
+        OldNode(String name)
+        {
+            super(name);
+        }
+
+        @Override
+        public void update()
+        {
+            updates++;
+            super.update();
+        }
+    }
+
+    /**
+     * A node that uses updateSelf()
+     */
+    private static class NewNode extends Node
+    {
+        int updates;
+
+        NewNode(String name)
+        {
+            super(name);
+        }
+
+        @Override
+        protected boolean needsUpdate()
+        {
+            return true;
+        }
+
+        @Override
+        protected void updateSelf()
+        {
+            updates++;
+        }
+    }
+
+
+    @Test
+    public void plainNodesAreNotUpdated()
+    {
+        Scene scene = new Scene();
+        scene.getRootNode().addChild(new Node("a"));
+        scene.getRootNode().getChild(0).addChild(new Node("b"));
+
+        assertEquals(0, scene.getActiveNodeCount());
+    }
+
+    @Test
+    public void updateOverridesAreUpdatedOncePerFrame()
+    {
+        Scene scene = new Scene();
+        OldNode parent = new OldNode("parent");
+        OldNode child = new OldNode("child");
+        NewNode grandchild = new NewNode("grandchild");
+        parent.addChild(child);
+        child.addChild(grandchild);
+        scene.getRootNode().addChild(parent);
+
+        assertEquals(3, scene.getActiveNodeCount());
+
+        for(int i = 0; i < 10; i++)
+            scene.update();
+
+        assertEquals(10, parent.updates);
+        assertEquals(10, child.updates);
+        assertEquals(10, grandchild.updates);
+    }
+
+    @Test
+    public void directUpdateStillUpdatesChildren()
+    {
+        OldNode parent = new OldNode("parent");
+        NewNode child = new NewNode("child");
+        parent.addChild(child);
+
+        parent.update();
+
+        assertEquals(1, parent.updates);
+        assertEquals(1, child.updates);
+    }
+
+    @Test
+    public void removedNodesAreNotUpdated()
+    {
+        Scene scene = new Scene();
+        OldNode node = new OldNode("node");
+        scene.getRootNode().addChild(node);
+        scene.update();
+        scene.getRootNode().removeChild(node);
+        scene.update();
+
+        assertEquals(1, node.updates);
+        assertEquals(0, scene.getActiveNodeCount());
+    }
+
+    @Test
+    public void frameIntervalSkipsFrames()
+    {
+        Scene scene = new Scene();
+        NewNode node = new NewNode("node");
+        node.setUpdateFrameInterval(3);
+        scene.getRootNode().addChild(node);
+
+        for(int i = 0; i < 30; i++)
+            scene.update();
+
+        assertEquals(10, node.updates);
+    }
+
+    @Test
+    public void nodesWithTheSameIntervalUpdateOnDifferentFrames()
+    {
+        Scene scene = new Scene();
+        NewNode a = new NewNode("a");
+        NewNode b = new NewNode("b");
+        a.setUpdateFrameInterval(2);
+        b.setUpdateFrameInterval(2);
+        scene.getRootNode().addChild(a);
+        scene.getRootNode().addChild(b);
+
+        for(int i = 0; i < 20; i++)
+        {
+            int before = a.updates + b.updates;
+            scene.update();
+            assertEquals("frame " + i, 1, a.updates + b.updates - before);
+        }
+        assertEquals(10, a.updates);
+        assertEquals(10, b.updates);
+    }
+
+    @Test
+    public void timeIntervalSkipsUpdatesUntilItHasPassed()
+    {
+        Scene scene = new Scene();
+        NewNode node = new NewNode("node");
+        node.setUpdateTimeInterval(100);
+        scene.getRootNode().addChild(node);
+        long start = System.nanoTime();
+        long ms = 1000000L;
+
+        node.scheduledUpdate(1, start + 50 * ms);
+        assertEquals(0, node.updates);
+
+        node.scheduledUpdate(2, start + 150 * ms);
+        assertEquals(1, node.updates);
+
+        node.scheduledUpdate(3, start + 200 * ms);
+        assertEquals(1, node.updates);
+
+        node.scheduledUpdate(4, start + 260 * ms);
+        assertEquals(2, node.updates);
+    }
+}
@@ -0,0 +1,151 @@
+
+
+package scene;
+
+import java.util.ArrayList;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the software occlusion culler
+ * @author Andrew
+ */
+public class OcclusionCullerTest
+{
+    /** Culler being tested */
+    private OcclusionCuller culler;
+
+    @After
+    public void dispose()
+    {
+        if(culler != null)
+            culler.dispose();
+    }
+
+
+    /**
+     * Makes a perspective projection looking down -z from the origin
+     * @return the projection matrix
+     */
+    private static float[] perspective()
+    {
+        float near = 0.1f;
+        float far = 100.0f;
+        float[] p = new float[16];
+        p[0] = 1.0f;
+        p[5] = 2.0f;
+        p[10] = -(far + near) / (far - near);
+        p[11] = -1.0f;
+        p[14] = -2.0f * far * near / (far - near);
+        return p;
+    }
+
+    /**
+     * Makes a node at a position
+     * @param x x position
+     * @param y y position
+     * @param z z position
+     * @return the node
+     */
+    private static Node node(float x, float y, float z)
+    {
+        Node n = new Node("node");
+        n.setTranslation(x, y, z);
+        return n;
+    }
+
+    /**
+     * Draws occluders into the culler
+     * @param occluders the occluder nodes
+     */
+    private void rasterize(Node... occluders)
+    {
+        ArrayList<Node> list = new ArrayList<Node>();
+        for(int i = 0; i < occluders.length; i++)
+            list.add(occluders[i]);
+        culler.rasterize(list);
+    }
+
+    /**
+     * Tests a node bounding sphere against the culler
+     * @param n the node
+     * @param radius the bounding radius
+     * @return true if hidden
+     */
+    private boolean occluded(Node n, float radius)
+    {
+        return culler.isOccluded(n.getNodeGlobalTransform(), radius);
+    }
+
+
+    @Test
+    public void wallHidesNodesBehindIt()
+    {
+        culler = new OcclusionCuller(64, 32, 4);
+        culler.setViewProjection(perspective());
+
+        Node wall = node(0.0f, 0.0f, -5.0f);
+        wall.setOccluder(5.0f, 5.0f, 0.5f);
+        rasterize(wall);
+
+        assertTrue(occluded(node(0.0f, 0.0f, -20.0f), 1.0f));
+        assertFalse(occluded(node(0.0f, 0.0f, -3.0f), 0.5f));
+        assertFalse(occluded(node(30.0f, 0.0f, -20.0f), 1.0f));
+    }
+
+    @Test
+    public void turnedBoxHidesNodesBehindIt()
+    {
+        culler = new OcclusionCuller(64, 32, 1);
+        culler.setViewProjection(perspective());
+
+        //three faces of the box are seen
+        Node box = node(0.0f, 0.0f, -10.0f);
+        box.setRotation(35.0f, 1.0f, 1.0f, 0.0f);
+        box.setOccluder(4.0f, 4.0f, 4.0f);
+        rasterize(box);
+
+        assertTrue(occluded(node(0.0f, 0.0f, -30.0f), 0.5f));
+        assertFalse(occluded(node(0.0f, 0.0f, -3.0f), 0.5f));
+    }
+
+    @Test
+    public void nodesPeekingPastAnEdgeAreNotHidden()
+    {
+        //orthographic so screen x = (x + 1) * 128
+        culler = new OcclusionCuller(256, 128, 1);
+        float[] identity = new float[16];
+        identity[0] = 1.0f;
+        identity[5] = 1.0f;
+        identity[10] = 1.0f;
+        identity[15] = 1.0f;
+        culler.setViewProjection(identity);
+
+        //right edge at pixel x 191.6
+        Node wall = node(0.0f, 0.0f, 0.0f);
+        wall.setOccluder(191.6f / 128.0f - 1.0f, 1.0f, 0.01f);
+        rasterize(wall);
+
+        float radius = 0.05f;
+        float pixelRadius = radius * 128.0f;
+
+        //right edge at pixel x 191.9 is past the wall edge
+        Node peeking = node((191.9f - pixelRadius) / 128.0f - 1.0f, 0.0f, 0.5f);
+        assertFalse(occluded(peeking, radius));
+
+        //right edge at pixel x 183.9 is inside the 8 x 8 mip texels the wall covers
+        Node hidden = node((183.9f - pixelRadius) / 128.0f - 1.0f, 0.0f, 0.5f);
+        assertTrue(occluded(hidden, radius));
+    }
+
+    @Test
+    public void nothingIsHiddenWithoutOccluders()
+    {
+        culler = new OcclusionCuller(64, 32, 2);
+        culler.setViewProjection(perspective());
+        rasterize();
+
+        assertFalse(occluded(node(0.0f, 0.0f, -20.0f), 1.0f));
+    }
+}
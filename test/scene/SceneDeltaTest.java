@@ -0,0 +1,306 @@
+
+
+package scene;
+
+import java.io.IOException;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Sends scene deltas through a pipe and checks the mirror scene
+ * matches the source scene after every delta
+ * @author Andrew
+ */
+public class SceneDeltaTest
+{
+    /** Scene changes are recorded from */
+    private Scene source;
+    /** Scene the deltas are applied to */
+    private Scene mirror;
+
+    /** Pipe the deltas are sent through */
+    private Pipe pipe;
+    /** Thread applying deltas to the mirror */
+    private Thread applierThread;
+    /** Frame numbers of applied deltas (or an exception) */
+    private LinkedBlockingQueue<Object> applied;
+
+    /** Number of nodes made (for unique names) */
+    private int nodeCount;
+
+
+    @Before
+    public void setUp() throws IOException
+    {
+        source = new Scene();
+        mirror = new Scene();
+        pipe = Pipe.open();
+        applied = new LinkedBlockingQueue<Object>();
+        nodeCount = 0;
+
+        //the applier reads on its own thread so large deltas cannot fill the pipe
+        applierThread = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                SceneDeltaApplier applier = new SceneDeltaApplier(mirror);
+                try
+                {
+                    while(applier.apply(pipe.source()))
+                        applied.add(Long.valueOf(applier.getLastFrame()));
+                }
+                catch (IOException ex)
+                {
+                    applied.add(ex);
+                }
+            }
+        });
+        applierThread.setDaemon(true);
+        applierThread.start();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        pipe.sink().close();
+        applierThread.join(5000);
+        pipe.source().close();
+    }
+
+
+    /**
+     * Makes a node with a unique name
+     * @return the node
+     */
+    private Node node()
+    {
+        Node n = new Node("n" + nodeCount++);
+        n.setTranslation(nodeCount * 0.25f, -1.5f, 2.0f);
+        return n;
+    }
+
+    /**
+     * Writes a delta, waits for it to be applied and checks the scenes match
+     * @throws Exception if the delta could not be sent or applied
+     */
+    private void sendAndCheck() throws Exception
+    {
+        source.update();
+        assertTrue(source.writeDelta(pipe.sink()));
+
+        Object result = applied.poll(5, TimeUnit.SECONDS);
+        if(result instanceof Exception)
+            throw (Exception) result;
+        assertNotNull("delta was not applied", result);
+
+        assertSameTree(source.getRootNode(), mirror.getRootNode());
+    }
+
+    /**
+     * Checks two subtrees have the same names, children and transforms
+     * (children can be in any order)
+     * @param expected node in the source scene
+     * @param actual node in the mirror scene
+     */
+    private static void assertSameTree(Node expected, Node actual)
+    {
+        String name = expected.getNodeName();
+        assertEquals(name, actual.getNodeName());
+        assertEquals(name + " children", expected.getChildCount(), actual.getChildCount());
+
+        float step = SceneDeltaWriter.POSITION_STEP;
+        for(int i = 0; i < 3; i++)
+        {
+            assertEquals(name + " translation", expected.getLocalTranslation()[i], actual.getLocalTranslation()[i], step);
+            assertEquals(name + " scale", expected.getLocalScale()[i], actual.getLocalScale()[i], step);
+        }
+        assertEquals(name + " angle", expected.getLocalRotation()[0], actual.getLocalRotation()[0], SceneDeltaWriter.ANGLE_STEP);
+
+        for(int i = 0; i < expected.getChildCount(); i++)
+        {
+            Node child = expected.getChild(i);
+            Node match = null;
+            for(int j = 0; j < actual.getChildCount() && match == null; j++)
+            {
+                if(actual.getChild(j).getNodeName().equals(child.getNodeName()))
+                    match = actual.getChild(j);
+            }
+            assertNotNull(name + " is missing " + child.getNodeName(), match);
+            assertSameTree(child, match);
+        }
+    }
+
+
+    @Test
+    public void firstDeltaHasTheWholeTree() throws Exception
+    {
+        Node a = node();
+        a.addChild(node());
+        a.addChild(node());
+        source.getRootNode().addChild(a);
+        source.getRootNode().addChild(node());
+
+        source.setRecordingDeltas(true);
+        sendAndCheck();
+    }
+
+    @Test
+    public void moveOutOfARemovedParent() throws Exception
+    {
+        source.setRecordingDeltas(true);
+        Node a = node();
+        Node b = node();
+        Node c = node();
+        source.getRootNode().addChild(a);
+        source.getRootNode().addChild(b);
+        a.addChild(c);
+        sendAndCheck();
+
+        //move C from A to B then remove A in the same frame
+        b.addChild(c);
+        source.getRootNode().removeChild(a);
+        sendAndCheck();
+
+        assertEquals(1, mirror.getRootNode().getChildCount());
+        assertEquals(1, mirror.getRootNode().getChild(0).getChildCount());
+    }
+
+    @Test
+    public void moveIntoANewParentThatIsRemoved() throws Exception
+    {
+        source.setRecordingDeltas(true);
+        Node c = node();
+        source.getRootNode().addChild(c);
+        sendAndCheck();
+
+        //add P, move C under P, then remove P in the same frame
+        Node p = node();
+        source.getRootNode().addChild(p);
+        p.addChild(c);
+        source.getRootNode().removeChild(p);
+        sendAndCheck();
+
+        assertEquals(0, mirror.getRootNode().getChildCount());
+    }
+
+    @Test
+    public void moveIntoASentParentThatIsRemoved() throws Exception
+    {
+        source.setRecordingDeltas(true);
+        Node a = node();
+        Node b = node();
+        Node c = node();
+        source.getRootNode().addChild(a);
+        source.getRootNode().addChild(b);
+        b.addChild(c);
+        sendAndCheck();
+
+        a.addChild(c);
+        source.getRootNode().removeChild(a);
+        sendAndCheck();
+    }
+
+    @Test
+    public void removeAndAddAgain() throws Exception
+    {
+        source.setRecordingDeltas(true);
+        Node a = node();
+        a.addChild(node());
+        source.getRootNode().addChild(a);
+        sendAndCheck();
+
+        source.getRootNode().removeChild(a);
+        source.getRootNode().addChild(a);
+        a.setTranslation(3.0f, 2.0f, 1.0f);
+        sendAndCheck();
+    }
+
+    @Test
+    public void randomChanges() throws Exception
+    {
+        Random random = new Random(7);
+        ArrayList<Node> all = new ArrayList<Node>();
+        source.setRecordingDeltas(true);
+
+        for(int frame = 0; frame < 300; frame++)
+        {
+            int changes = random.nextInt(8);
+            for(int i = 0; i < changes; i++)
+            {
+                int op = all.isEmpty() ? 0 : random.nextInt(4);
+                if(op == 0)
+                {
+                    //add a small subtree
+                    Node n = node();
+                    if(random.nextBoolean())
+                        n.addChild(node());
+                    Node parent = all.isEmpty() || random.nextInt(4) == 0
+                            ? source.getRootNode() : all.get(random.nextInt(all.size()));
+                    parent.addChild(n);
+                }
+                else if(op == 1)
+                {
+                    Node n = all.get(random.nextInt(all.size()));
+                    n.getParentNode().removeChild(n);
+                }
+                else if(op == 2)
+                {
+                    //move to a parent outside its own subtree
+                    Node n = all.get(random.nextInt(all.size()));
+                    Node parent = all.get(random.nextInt(all.size()));
+                    if(!isInside(parent, n))
+                        parent.addChild(n);
+                }
+                else
+                {
+                    Node n = all.get(random.nextInt(all.size()));
+                    n.setTranslation(random.nextFloat() * 100.0f, random.nextFloat(), -random.nextFloat() * 50.0f);
+                    n.setScale(1.0f + random.nextInt(4) * 0.5f);
+                    n.setRotation(random.nextInt(360), 0.0f, 1.0f, 0.0f);
+                }
+
+                all.clear();
+                collect(source.getRootNode(), all);
+            }
+
+            sendAndCheck();
+        }
+    }
+
+    /**
+     * Checks if a node is in the subtree of another node
+     * @param n the node
+     * @param top the top of the subtree
+     * @return true if n is top or below it
+     */
+    private static boolean isInside(Node n, Node top)
+    {
+        for(Node p = n; p != null; p = p.getParentNode())
+        {
+            if(p == top)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lists the nodes below a node
+     * @param n the top node (not listed)
+     * @param list the list to add to
+     */
+    private static void collect(Node n, ArrayList<Node> list)
+    {
+        for(int i = 0; i < n.getChildCount(); i++)
+        {
+            list.add(n.getChild(i));
+            collect(n.getChild(i), list);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package scene;
+
+import javax.media.opengl.GL;
+import org.junit.Before;
+import org.junit.Test;
+import tools.CountingGL;
+import static org.junit.Assert.*;
+
+/**
+ * Tests which uniforms a shader node sends and how node transforms reach it
+ * @author Andrew
+ */
+public class ShaderNodeTest
+{
+    /**
+     * GL with a linked program that has a "tint" vec4 and a "model" mat4
+     * uniform, counting the calls that send values and transforms
+     */
+    private static class ShaderGL extends CountingGL
+    {
+        /** Active uniforms - their location is their index plus the lookup count */
+        static final String[] NAMES = {"tint", "model"};
+
+        int lookups;
+        int tintCalls;
+        int tintLocation = -1;
+        float tintX;
+        int matrixCalls;
+        int matrixLocation = -1;
+        int pushes, mults, pops;
+
+        @Override
+        public void glGetProgramiv(int program, int pname, int[] params, int offset)
+        {
+            super.glGetProgramiv(program, pname, params, offset);
+            if(pname == GL.GL_ACTIVE_UNIFORMS)
+                params[offset] = NAMES.length;
+            else if(pname == GL.GL_ACTIVE_UNIFORM_MAX_LENGTH)
+                params[offset] = 16;
+        }
+
+        @Override
+        public void glGetActiveUniform(int program, int index, int bufSize, int[] length, int lengthOffset,
+                int[] size, int sizeOffset, int[] type, int typeOffset, byte[] name, int nameOffset)
+        {
+            super.glGetActiveUniform(program, index, bufSize, length, lengthOffset, size, sizeOffset, type, typeOffset, name, nameOffset);
+            byte[] bytes = NAMES[index].getBytes();
+            System.arraycopy(bytes, 0, name, nameOffset, bytes.length);
+            length[lengthOffset] = bytes.length;
+        }
+
+        @Override
+        public int glGetUniformLocation(int program, String name)
+        {
+            super.glGetUniformLocation(program, name);
+            //a relink can move uniforms
+            lookups++;
+            return name.equals("tint") ? 10 * lookups : 10 * lookups + 1;
+        }
+
+        @Override
+        public void glUniform4f(int location, float x, float y, float z, float w)
+        {
+            super.glUniform4f(location, x, y, z, w);
+            tintCalls++;
+            tintLocation = location;
+            tintX = x;
+        }
+
+        @Override
+        public void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset)
+        {
+            super.glUniformMatrix4fv(location, count, transpose, value, offset);
+            matrixCalls++;
+            matrixLocation = location;
+        }
+
+        @Override
+        public void glPushMatrix()
+        {
+            super.glPushMatrix();
+            pushes++;
+        }
+
+        @Override
+        public void glMultMatrixf(float[] m, int offset)
+        {
+            super.glMultMatrixf(m, offset);
+            mults++;
+        }
+
+        @Override
+        public void glPopMatrix()
+        {
+            super.glPopMatrix();
+            pops++;
+        }
+    }
+
+
+    private ShaderGL gl;
+    private ShaderNode shader;
+
+    @Before
+    public void setUp()
+    {
+        gl = new ShaderGL();
+        shader = new ShaderNode("shader");
+    }
+
+
+    @Test
+    public void unchangedValuesAreSentOnce()
+    {
+        shader.init(gl);
+        shader.setUniform("tint", 0.5f, 0.5f, 0.5f, 1.0f);
+
+        shader.draw(gl);
+        shader.draw(gl);
+        assertEquals(1, gl.tintCalls);
+
+        shader.setUniform("tint", 0.5f, 0.5f, 0.5f, 1.0f);
+        shader.draw(gl);
+        assertEquals(1, gl.tintCalls);
+
+        shader.setUniform("tint", 0.25f, 0.5f, 0.5f, 1.0f);
+        shader.draw(gl);
+        assertEquals(2, gl.tintCalls);
+        assertEquals(0.25f, gl.tintX, 0.0f);
+    }
+
+    @Test
+    public void valuesSetBeforeInitAreSentAfterLinking()
+    {
+        shader.setUniform("tint", 0.75f, 0.0f, 0.0f, 1.0f);
+        shader.draw(gl);
+        assertEquals(0, gl.tintCalls);
+
+        shader.init(gl);
+        shader.draw(gl);
+        assertEquals(1, gl.tintCalls);
+        assertEquals(shader.getUniformLocation("tint"), gl.tintLocation);
+        assertEquals(0.75f, gl.tintX, 0.0f);
+    }
+
+    @Test
+    public void locationsAreLookedUpAgainAfterRelease()
+    {
+        shader.setUniform("tint", 1.0f, 1.0f, 1.0f, 1.0f);
+        shader.init(gl);
+        int first = shader.getUniformLocation("tint");
+        shader.draw(gl);
+
+        shader.release(gl);
+        assertEquals(-1, shader.getUniformLocation("tint"));
+
+        shader.init(gl);
+        int second = shader.getUniformLocation("tint");
+        assertTrue(second >= 0);
+        assertTrue(first != second);
+
+        //the new program gets the value at the new location
+        shader.draw(gl);
+        assertEquals(2, gl.tintCalls);
+        assertEquals(second, gl.tintLocation);
+    }
+
+    @Test
+    public void modelMatrixUniformReplacesTheMatrixStack()
+    {
+        Node child = new Node("child");
+        child.setTranslation(1.0f, 2.0f, 3.0f);
+        shader.addChild(child);
+        shader.init(gl);
+
+        shader.draw(gl);
+        assertEquals(2, gl.pushes);
+        assertEquals(2, gl.mults);
+        assertEquals(2, gl.pops);
+        assertEquals(0, gl.matrixCalls);
+
+        shader.setModelMatrixUniform("model");
+        shader.draw(gl);
+        assertEquals(2, gl.pushes);
+        assertEquals(2, gl.mults);
+        assertEquals(2, gl.pops);
+        assertEquals(2, gl.matrixCalls);
+        assertEquals(shader.getUniformLocation("model"), gl.matrixLocation);
+
+        //the new location reaches the child after a relink
+        shader.release(gl);
+        shader.init(gl);
+        shader.draw(gl);
+        assertEquals(4, gl.matrixCalls);
+        assertEquals(shader.getUniformLocation("model"), gl.matrixLocation);
+        assertEquals(2, gl.pushes);
+
+        shader.setModelMatrixUniform(null);
+        shader.draw(gl);
+        assertEquals(4, gl.matrixCalls);
+        assertEquals(4, gl.pushes);
+        assertEquals(4, gl.pops);
+    }
+
+    @Test
+    public void movedNodesUseTheNewShaderLocation()
+    {
+        Scene scene = new Scene();
+        Node child = new Node("child");
+        shader.setModelMatrixUniform("model");
+        scene.getRootNode().addChild(shader);
+        scene.getRootNode().addChild(child);
+        scene.init(gl);
+
+        scene.draw(gl);
+        assertEquals(1, gl.matrixCalls);
+
+        shader.addChild(child);
+        scene.draw(gl);
+        assertEquals(3, gl.matrixCalls);
+
+        scene.getRootNode().addChild(child);
+        scene.draw(gl);
+        assertEquals(4, gl.matrixCalls);
+    }
+}
@@ -0,0 +1,133 @@
+
+
+package scene;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.Assume;
+import org.junit.Test;
+import tools.CountingGL;
+import tools.SceneGenerator;
+import static org.junit.Assert.*;
+
+/**
+ * Checks update and draw allocate nothing once a scene is running.
+ * The JIT compiler can allocate a few bytes on the frame thread now and
+ * then, so the scene passes if any of a few runs of frames allocates
+ * nothing. Allocating in every frame fails every run.
+ * @author Andrew
+ */
+public class SteadyStateAllocationTest
+{
+    /** Frames run before measuring */
+    private static final int WARMUP_FRAMES = 5000;
+    /** Frames in each measured run */
+    private static final int FRAMES = 2000;
+    /** Most measured runs */
+    private static final int RUNS = 5;
+
+
+    /**
+     * Gets the allocation counter of this thread
+     * @return the counter - or null if the JVM has none
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter()
+    {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if(!(threads instanceof com.sun.management.ThreadMXBean))
+            return null;
+
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        if(!counter.isThreadAllocatedMemorySupported())
+            return null;
+        counter.setThreadAllocatedMemoryEnabled(true);
+        return counter;
+    }
+
+
+    @Test
+    public void updateAndDrawDoNotAllocate() throws Exception
+    {
+        com.sun.management.ThreadMXBean counter = allocationCounter();
+        Assume.assumeNotNull(counter);
+
+        //shaders, textures and some animated nodes
+        SceneGenerator generator = new SceneGenerator();
+        generator.setNodeCount(1000);
+        generator.setAnimatedFraction(0.2f);
+        Scene scene = generator.generate();
+
+        //occluders with a threaded culler
+        for(int i = 0; i < 4; i++)
+        {
+            Node wall = new Node("wall" + i);
+            wall.setTranslation(i * 3.0f - 4.5f, 0.0f, -5.0f);
+            wall.setOccluder(1.0f, 2.0f, 0.2f);
+            scene.getRootNode().addChild(wall);
+        }
+        float[] projection = new float[16];
+        projection[0] = 1.0f;
+        projection[5] = 1.0f;
+        projection[10] = -1.0f;
+        projection[11] = -1.0f;
+        projection[14] = -0.2f;
+        OcclusionCuller culler = new OcclusionCuller(128, 64, 2);
+        culler.setViewProjection(projection);
+        scene.setOcclusionCuller(culler);
+
+        //an impostor and resident streamed content
+        Node far = new Node("far");
+        far.setTranslation(0.0f, 0.0f, -80.0f);
+        far.setBoundingRadius(2.0f);
+        far.setImpostor(20.0f, 5.0f, 0.1f, 32);
+        far.addChild(new Node("farChild"));
+        scene.getRootNode().addChild(far);
+
+        SubtreeStreamer streamer = new SubtreeStreamer();
+        scene.setSubtreeStreamer(streamer);
+        final Node content = new Node("content");
+        StreamingNode streaming = new StreamingNode("streaming", new SubtreeLoader()
+        {
+            public Node loadSubtree()
+            {
+                return content;
+            }
+        }, 50.0f);
+        scene.getRootNode().addChild(streaming);
+
+        CountingGL gl = new CountingGL();
+        scene.init(gl);
+
+        try
+        {
+            for(int i = 0; i < WARMUP_FRAMES || !streaming.isResident(); i++)
+            {
+                scene.update();
+                scene.draw(gl);
+                if(i > WARMUP_FRAMES * 4)
+                    fail("streamed content was not loaded");
+            }
+
+            long thread = Thread.currentThread().getId();
+            long allocated = Long.MAX_VALUE;
+            for(int run = 0; run < RUNS && allocated != 0; run++)
+            {
+                long before = counter.getThreadAllocatedBytes(thread);
+                for(int i = 0; i < FRAMES; i++)
+                {
+                    scene.update();
+                    scene.draw(gl);
+                }
+                allocated = Math.min(allocated, counter.getThreadAllocatedBytes(thread) - before);
+            }
+
+            assertTrue(gl.getCallCount() > 0);
+            assertEquals("bytes allocated in " + FRAMES + " frames", 0, allocated);
+        }
+        finally
+        {
+            culler.dispose();
+            streamer.dispose();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+
+
+package scene;
+
+import java.util.concurrent.CountDownLatch;
+import javax.media.opengl.GL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import tools.CountingGL;
+import static org.junit.Assert.*;
+
+/**
+ * Tests loading and releasing streaming node content
+ * @author Andrew
+ */
+public class SubtreeStreamerTest
+{
+    /**
+     * Content that counts inits and releases
+     */
+    private static class Content extends Node
+    {
+        int inits;
+        int releases;
+
+        Content(String name)
+        {
+            super(name);
+        }
+
+        @Override
+        public void init(GL gl)
+        {
+            inits++;
+            super.init(gl);
+        }
+
+        @Override
+        public void release(GL gl)
+        {
+            releases++;
+            super.release(gl);
+        }
+    }
+
+    /**
+     * Loader that counts loads and hands out the same content
+     */
+    private static class Loader implements SubtreeLoader
+    {
+        final Node content;
+        final CountDownLatch start;
+        volatile int loads;
+
+        Loader(Node content)
+        {
+            this(content, new CountDownLatch(0));
+        }
+
+        Loader(Node content, CountDownLatch start)
+        {
+            this.content = content;
+            this.start = start;
+        }
+
+        public Node loadSubtree()
+        {
+            loads++;
+            try
+            {
+                start.await();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return content;
+        }
+    }
+
+
+    private Scene scene;
+    private SubtreeStreamer streamer;
+    private GL gl;
+
+    @Before
+    public void setUp()
+    {
+        scene = new Scene();
+        streamer = new SubtreeStreamer();
+        streamer.setPrefetchTime(0.0f);
+        streamer.setMaxInitsPerFrame(4);
+        scene.setSubtreeStreamer(streamer);
+        gl = new CountingGL().getGL();
+    }
+
+    @After
+    public void tearDown()
+    {
+        streamer.dispose();
+    }
+
+    /**
+     * Draws frames until a node is resident
+     * @param n the node
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void drawUntilResident(StreamingNode n) throws InterruptedException
+    {
+        for(int i = 0; i < 5000 && !n.isResident(); i++)
+        {
+            scene.draw(gl);
+            Thread.sleep(1);
+        }
+        assertTrue(n.getNodeName() + " was not loaded", n.isResident());
+    }
+
+    /**
+     * Moves the camera without turning it
+     * @param x camera x
+     * @param y camera y
+     * @param z camera z
+     */
+    private void moveCamera(float x, float y, float z)
+    {
+        float[] view = new float[16];
+        view[0] = 1.0f;
+        view[5] = 1.0f;
+        view[10] = 1.0f;
+        view[15] = 1.0f;
+        view[12] = -x;
+        view[13] = -y;
+        view[14] = -z;
+        scene.setViewMatrix(view);
+    }
+
+    /**
+     * Draws a number of frames
+     * @param frames the number of frames
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void draw(int frames) throws InterruptedException
+    {
+        for(int i = 0; i < frames; i++)
+        {
+            scene.draw(gl);
+            Thread.sleep(1);
+        }
+    }
+
+
+    @Test
+    public void contentIsLoadedAndReleasedAroundTheCamera() throws InterruptedException
+    {
+        Content content = new Content("content");
+        StreamingNode n = new StreamingNode("streaming", new Loader(content), 10.0f);
+        scene.getRootNode().addChild(n);
+
+        drawUntilResident(n);
+        assertEquals(1, content.inits);
+        assertEquals(1, n.getChildCount());
+
+        moveCamera(100.0f, 0.0f, 0.0f);
+        draw(1);
+        assertFalse(n.isResident());
+        assertEquals(1, content.releases);
+        assertEquals(0, n.getChildCount());
+    }
+
+    @Test
+    public void cameraPositionComesFromTheViewMatrix()
+    {
+        //camera at (3, 4, 5) turned 90 degrees about y and scaled by 2
+        float[] view = new float[16];
+        view[2] = 2.0f;
+        view[5] = 2.0f;
+        view[8] = -2.0f;
+        view[15] = 1.0f;
+        view[12] = -(view[0] * 3.0f + view[4] * 4.0f + view[8] * 5.0f);
+        view[13] = -(view[1] * 3.0f + view[5] * 4.0f + view[9] * 5.0f);
+        view[14] = -(view[2] * 3.0f + view[6] * 4.0f + view[10] * 5.0f);
+        scene.setViewMatrix(view);
+
+        float[] camera = scene.getCameraPosition();
+        assertEquals(3.0f, camera[0], 0.0001f);
+        assertEquals(4.0f, camera[1], 0.0001f);
+        assertEquals(5.0f, camera[2], 0.0001f);
+    }
+
+    @Test
+    public void removedNodesReleaseTheirContent() throws InterruptedException
+    {
+        Content content = new Content("content");
+        StreamingNode n = new StreamingNode("streaming", new Loader(content), 10.0f);
+        scene.getRootNode().addChild(n);
+        drawUntilResident(n);
+
+        //released on the GL thread by the next draw
+        scene.getRootNode().removeChild(n);
+        assertFalse(n.isResident());
+        assertEquals(0, content.releases);
+
+        draw(1);
+        assertEquals(1, content.releases);
+        assertEquals(0, n.getChildCount());
+
+        //and loaded again when added back
+        scene.getRootNode().addChild(n);
+        drawUntilResident(n);
+        assertEquals(2, content.inits);
+        assertEquals(1, n.getChildCount());
+    }
+
+    @Test
+    public void removingCancelsALoad() throws InterruptedException
+    {
+        CountDownLatch start = new CountDownLatch(1);
+        Loader loader = new Loader(new Content("content"), start);
+        StreamingNode n = new StreamingNode("streaming", loader, 10.0f);
+        scene.getRootNode().addChild(n);
+
+        draw(1);
+        scene.getRootNode().removeChild(n);
+        start.countDown();
+        draw(20);
+
+        assertEquals(1, loader.loads);
+        assertFalse(n.isResident());
+        assertNull(n.loadedContent);
+        assertEquals(0, n.getChildCount());
+    }
+
+    @Test
+    public void nestedNodesWaitForTheirDistance() throws InterruptedException
+    {
+        //inner node is far away from the camera
+        Content innerContent = new Content("innerContent");
+        Loader innerLoader = new Loader(innerContent);
+        StreamingNode inner = new StreamingNode("inner", innerLoader, 10.0f);
+        inner.setTranslation(1000.0f, 0.0f, 0.0f);
+
+        Content outerContent = new Content("outerContent");
+        outerContent.addChild(inner);
+        StreamingNode outer = new StreamingNode("outer", new Loader(outerContent), 10.0f);
+        scene.getRootNode().addChild(outer);
+
+        drawUntilResident(outer);
+        draw(20);
+
+        assertEquals(0, innerLoader.loads);
+        assertFalse(inner.isResident());
+    }
+
+    @Test
+    public void nestedContentIsReleasedOnce() throws InterruptedException
+    {
+        Content innerContent = new Content("innerContent");
+        StreamingNode inner = new StreamingNode("inner", new Loader(innerContent), 10.0f);
+
+        Content outerContent = new Content("outerContent");
+        outerContent.addChild(inner);
+        StreamingNode outer = new StreamingNode("outer", new Loader(outerContent), 10.0f);
+
+        //other streaming nodes around them in the list
+        for(int i = 0; i < 3; i++)
+            scene.getRootNode().addChild(new StreamingNode("before" + i, new Loader(new Content("c")), 10.0f));
+        scene.getRootNode().addChild(outer);
+        for(int i = 0; i < 3; i++)
+            scene.getRootNode().addChild(new StreamingNode("after" + i, new Loader(new Content("c")), 10.0f));
+
+        drawUntilResident(outer);
+        drawUntilResident(inner);
+
+        moveCamera(100.0f, 0.0f, 0.0f);
+        draw(5);
+
+        assertFalse(outer.isResident());
+        assertFalse(inner.isResident());
+        assertEquals(1, outerContent.releases);
+        assertEquals(1, innerContent.releases);
+        for(int i = 0; i < scene.getRootNode().getChildCount(); i++)
+            assertEquals(0, scene.getRootNode().getChild(i).getChildCount());
+    }
+}
@@ -0,0 +1,105 @@
+
+
+package shapes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests parsing OBJ data
+ * @author Andrew
+ */
+public class ObjLoaderTest
+{
+    /**
+     * Parses numbers as vertex x positions (one triangle per vertex)
+     * @param numbers the numbers as written in a file
+     * @return the parsed x positions
+     * @throws IOException if the data is bad
+     */
+    private static float[] parsePositions(String... numbers) throws IOException
+    {
+        StringBuilder obj = new StringBuilder();
+        for(int i = 0; i < numbers.length; i++)
+            obj.append("v ").append(numbers[i]).append(" 0 0\n");
+        for(int i = 1; i <= numbers.length; i++)
+            obj.append("f ").append(i).append(' ').append(i).append(' ').append(i).append('\n');
+
+        ObjLoader loader = new ObjLoader();
+        loader.parse(ByteBuffer.wrap(obj.toString().getBytes("US-ASCII")));
+        assertEquals(numbers.length, loader.getVertexCount());
+
+        float[] x = new float[numbers.length];
+        for(int i = 0; i < numbers.length; i++)
+            x[i] = loader.getVertices()[i * ObjLoader.VERTEX_SIZE];
+        return x;
+    }
+
+    /**
+     * Checks numbers parse to the closest float (or next to it)
+     * @param numbers the numbers as written in a file
+     * @throws IOException if the data is bad
+     */
+    private static void assertParsed(String... numbers) throws IOException
+    {
+        float[] parsed = parsePositions(numbers);
+        for(int i = 0; i < numbers.length; i++)
+        {
+            float expected = Float.parseFloat(numbers[i]);
+            assertEquals(numbers[i], expected, parsed[i], Math.ulp(expected));
+        }
+    }
+
+
+    @Test
+    public void parsesPlainNumbers() throws IOException
+    {
+        assertParsed("0", "1", "-1", "+2.5", "0.125", "-0.000001", "123456.75", ".5", "-.25", "10.");
+    }
+
+    @Test
+    public void parsesExponents() throws IOException
+    {
+        assertParsed("1e3", "1E3", "2.5e+2", "-3.5E-2", "1e0", "0e99", "0.0e-99");
+    }
+
+    @Test
+    public void parsesVerySmallAndLargeExponents() throws IOException
+    {
+        assertParsed("1.2345678e-32", "1e-38", "1.17549435e-38", "4.5e-40", "1.4e-45", "9.87654321e-44",
+                "3.4028235e38", "1e38", "0.000000000000000000001e50");
+
+        float[] outside = parsePositions("1e-60", "1e39", "-1e400");
+        assertEquals(0.0f, outside[0], 0.0f);
+        assertEquals(Float.POSITIVE_INFINITY, outside[1], 0.0f);
+        assertEquals(Float.NEGATIVE_INFINITY, outside[2], 0.0f);
+    }
+
+    @Test
+    public void parsesLongNumbers() throws IOException
+    {
+        assertParsed("3.14159265358979323846264338327950288", "123456789012345678901234567890",
+                "0.000000000000000000000000000000123456789012345678901");
+    }
+
+    @Test
+    public void parsesRandomFloats() throws IOException
+    {
+        Random random = new Random(3);
+        String[] numbers = new String[5000];
+        for(int i = 0; i < numbers.length; i++)
+        {
+            float f;
+            do
+            {
+                f = Float.intBitsToFloat(random.nextInt());
+            }
+            while(Float.isNaN(f) || Float.isInfinite(f));
+            numbers[i] = Float.toString(f);
+        }
+        assertParsed(numbers);
+    }
+}
@@ -0,0 +1,312 @@
+
+
+package tools;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import shapes.ObjLoader;
+import shapes.VertexCacheOptimizer;
+
+/**
+ * Measures OBJ parse throughput on large meshes.
+ * Writes a grid mesh with positions, texcoords and normals (or uses a
+ * given file), parses it a number of times and prints one JSON line with
+ * the parse speed and the vertex cache miss ratio before and after
+ * optimizing the triangle order.
+ *
+ * Arguments are key=value pairs:
+ * triangles (size of the generated grid), runs and file.
+ * @author Andrew
+ */
+public class ObjLoadBenchmark
+{
+    /** Size of the vertex cache used to measure the miss ratio */
+    private static final int CACHE_SIZE = 32;
+
+    /** Number of triangles in the generated mesh */
+    private int triangles;
+    /** Number of times the file is parsed */
+    private int runs;
+    /** File to parse (null to generate one) */
+    private String fileName;
+
+
+
+    /**
+     * Creates a benchmark of a two million triangle grid
+     */
+    public ObjLoadBenchmark()
+    {
+        triangles = 2000000;
+        runs = 5;
+        fileName = null;
+    }
+
+
+    /**
+     * Sets the number of triangles in the generated mesh
+     * @param triangles the number of triangles
+     */
+    public void setTriangles(int triangles)
+    {
+        this.triangles = Math.max(2, triangles);
+    }
+
+    /**
+     * Sets the number of times the file is parsed
+     * @param runs the number of runs
+     */
+    public void setRuns(int runs)
+    {
+        this.runs = Math.max(1, runs);
+    }
+
+    /**
+     * Sets a file to parse instead of a generated mesh
+     * @param fileName the OBJ file
+     */
+    public void setFileName(String fileName)
+    {
+        this.fileName = fileName;
+    }
+
+
+    /**
+     * Parses the mesh and measures it
+     * @return the results as one line of JSON
+     * @throws IOException if the file could not be written or read
+     */
+    public String run() throws IOException
+    {
+        File file;
+        if(fileName != null)
+        {
+            file = new File(fileName);
+        }
+        else
+        {
+            file = File.createTempFile("benchmark", ".obj");
+            file.deleteOnExit();
+            writeGrid(file);
+        }
+
+        long[] times = new long[runs];
+        ObjLoader loader = null;
+        for(int i = 0; i < runs; i++)
+        {
+            //a new loader each run so growing the arrays is measured too
+            loader = new ObjLoader();
+            long start = System.nanoTime();
+            loader.load(file.getPath());
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+
+        int[] indices = loader.getIndices();
+        int indexCount = loader.getIndexCount();
+        int vertexCount = loader.getVertexCount();
+        double acmrBefore = missRatio(indices, indexCount, vertexCount);
+
+        long start = System.nanoTime();
+        VertexCacheOptimizer.optimize(indices, indexCount, vertexCount);
+        long optimizeTime = System.nanoTime() - start;
+        double acmrAfter = missRatio(indices, indexCount, vertexCount);
+
+        double megabytes = file.length() / (1024.0 * 1024.0);
+        double bestSeconds = times[0] / 1000000000.0;
+        double medianSeconds = times[runs / 2] / 1000000000.0;
+
+        StringBuilder json = new StringBuilder("{");
+        field(json, "fileBytes", file.length());
+        field(json, "triangles", indexCount / 3);
+        field(json, "vertices", vertexCount);
+        field(json, "runs", runs);
+        field(json, "parseBestMillis", bestSeconds * 1000.0);
+        field(json, "parseMedianMillis", medianSeconds * 1000.0);
+        field(json, "megabytesPerSecond", megabytes / medianSeconds);
+        field(json, "trianglesPerSecond", indexCount / 3 / medianSeconds);
+        field(json, "optimizeMillis", optimizeTime / 1000000.0);
+        field(json, "acmrBefore", acmrBefore);
+        field(json, "acmrAfter", acmrAfter);
+        json.setCharAt(json.length() - 1, '}');
+
+        if(fileName == null)
+            file.delete();
+        return json.toString();
+    }
+
+    /**
+     * Writes a square grid mesh with about the asked number of triangles
+     * @param file the file to write
+     * @throws IOException if the file could not be written
+     */
+    private void writeGrid(File file) throws IOException
+    {
+        int side = Math.max(1, (int) Math.sqrt(triangles / 2.0));
+        int row = side + 1;
+
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16);
+        try
+        {
+            StringBuilder line = new StringBuilder(64);
+            for(int y = 0; y <= side; y++)
+            {
+                for(int x = 0; x <= side; x++)
+                {
+                    float u = (float) x / side;
+                    float v = (float) y / side;
+                    //a little height so numbers have many digits
+                    float h = (float) Math.sin(u * 12.0) * (float) Math.cos(v * 9.0) * 0.05f;
+
+                    line.setLength(0);
+                    line.append("v ").append(u * 100.0f).append(' ').append(h).append(' ').append(v * 100.0f).append('\n');
+                    line.append("vt ").append(u).append(' ').append(v).append('\n');
+                    line.append("vn 0.0 1.0 ").append(h).append('\n');
+                    write(out, line);
+                }
+            }
+
+            for(int y = 0; y < side; y++)
+            {
+                for(int x = 0; x < side; x++)
+                {
+                    int a = y * row + x + 1;
+                    int b = a + 1;
+                    int c = a + row;
+                    int d = c + 1;
+
+                    line.setLength(0);
+                    corner(line.append('f'), a);
+                    corner(line, c);
+                    corner(line, b);
+                    corner(line.append("\nf"), b);
+                    corner(line, c);
+                    corner(line, d);
+                    line.append('\n');
+                    write(out, line);
+                }
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    /**
+     * Adds a face corner using the same index for each attribute
+     * @param line the line being built
+     * @param index the index
+     */
+    private static void corner(StringBuilder line, int index)
+    {
+        line.append(' ').append(index).append('/').append(index).append('/').append(index);
+    }
+
+    /**
+     * Writes ASCII text
+     * @param out the stream
+     * @param text the text
+     * @throws IOException if it could not be written
+     */
+    private static void write(OutputStream out, StringBuilder text) throws IOException
+    {
+        for(int i = 0; i < text.length(); i++)
+            out.write(text.charAt(i));
+    }
+
+    /**
+     * Gets the average cache miss ratio (vertices transformed per triangle)
+     * of a first in first out vertex cache
+     * @param indices the triangle indices
+     * @param indexCount the number of indices
+     * @param vertexCount the number of vertices
+     * @return the misses per triangle
+     */
+    private static double missRatio(int[] indices, int indexCount, int vertexCount)
+    {
+        //miss count when each vertex last entered the cache
+        long[] entered = new long[vertexCount];
+        Arrays.fill(entered, -CACHE_SIZE - 1);
+
+        long misses = 0;
+        for(int i = 0; i < indexCount; i++)
+        {
+            int v = indices[i];
+            if(misses - entered[v] > CACHE_SIZE)
+            {
+                entered[v] = misses;
+                misses++;
+            }
+        }
+        return indexCount == 0 ? 0.0 : (double) misses / (indexCount / 3);
+    }
+
+    /**
+     * Adds a number field to a JSON object
+     * @param json the object being built
+     * @param name the field name
+     * @param value the value
+     */
+    private static void field(StringBuilder json, String name, double value)
+    {
+        json.append('"').append(name).append("\":");
+        if(value == Math.rint(value) && Math.abs(value) < 1e15)
+            json.append((long) value);
+        else
+            json.append(Math.round(value * 1000.0) / 1000.0);
+        json.append(',');
+    }
+
+
+    /**
+     * Runs the benchmark
+     * @param args key=value settings
+     */
+    public static void main(String[] args)
+    {
+        ObjLoadBenchmark benchmark = new ObjLoadBenchmark();
+
+        try
+        {
+            for(int i = 0; i < args.length; i++)
+            {
+                int split = args[i].indexOf('=');
+                if(split < 0)
+                    throw new IllegalArgumentException(args[i]);
+
+                String key = args[i].substring(0, split);
+                String value = args[i].substring(split + 1);
+
+                if(key.equals("triangles"))
+                    benchmark.setTriangles(Integer.parseInt(value));
+                else if(key.equals("runs"))
+                    benchmark.setRuns(Integer.parseInt(value));
+                else if(key.equals("file"))
+                    benchmark.setFileName(value);
+                else
+                    throw new IllegalArgumentException(args[i]);
+            }
+        }
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("Bad argument " + ex.getMessage());
+            System.err.println("Usage: ObjLoadBenchmark [triangles=2000000] [runs=5] [file=mesh.obj]");
+            System.exit(1);
+        }
+
+        try
+        {
+            System.out.println(benchmark.run());
+        }
+        catch (IOException ex)
+        {
+            System.err.println("Could not load mesh: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,460 @@
+
+
+package tools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedList;
+import java.util.Random;
+import javax.media.opengl.GL;
+import scene.Node;
+import scene.RenderableNode;
+import scene.Scene;
+import scene.ShaderNode;
+import shapes.GLSquare;
+
+/**
+ * Builds synthetic scenes for load testing.
+ * Nodes are added breadth first up to a depth and fan-out so the tree is
+ * balanced. Every generated node draws a square and some of them spin.
+ * Shader and texture files are written to a temporary folder.
+ * @author Andrew
+ */
+public class SceneGenerator
+{
+    /** Size of the generated textures in pixels */
+    private static final int TEXTURE_SIZE = 64;
+
+    /** Number of nodes to generate */
+    private int nodeCount;
+    /** Most levels below the shader nodes */
+    private int depth;
+    /** Most children of each node */
+    private int fanOut;
+    /** Fraction of nodes that are updated every frame (0..1) */
+    private float animatedFraction;
+    /** Number of different shader programs */
+    private int shaderCount;
+    /** Number of different textures */
+    private int textureCount;
+    /** Seed for node placement */
+    private long seed;
+
+    /** Folder the shader and texture files are written to */
+    private File assetFolder;
+    /** Number of nodes created by the last generate */
+    private int createdCount;
+
+
+
+    /**
+     * Creates a generator for a 1000 node scene
+     */
+    public SceneGenerator()
+    {
+        nodeCount = 1000;
+        depth = 4;
+        fanOut = 8;
+        animatedFraction = 0.1f;
+        shaderCount = 4;
+        textureCount = 8;
+        seed = 1;
+        assetFolder = null;
+        createdCount = 0;
+    }
+
+
+    /**
+     * Sets the number of nodes to generate
+     * @param count the number of nodes
+     */
+    public void setNodeCount(int count)
+    {
+        this.nodeCount = Math.max(0, count);
+    }
+
+    /**
+     * Sets the most levels of nodes below the shader nodes
+     * @param depth the depth
+     */
+    public void setDepth(int depth)
+    {
+        this.depth = Math.max(1, depth);
+    }
+
+    /**
+     * Sets the most children of each node
+     * @param fanOut the number of children
+     */
+    public void setFanOut(int fanOut)
+    {
+        this.fanOut = Math.max(1, fanOut);
+    }
+
+    /**
+     * Sets the fraction of nodes that are updated every frame
+     * @param fraction 0 for a static scene, 1 for every node
+     */
+    public void setAnimatedFraction(float fraction)
+    {
+        this.animatedFraction = Math.max(0.0f, Math.min(1.0f, fraction));
+    }
+
+    /**
+     * Sets the number of different shader programs
+     * @param count the number of shaders (0 = no shader nodes)
+     */
+    public void setShaderCount(int count)
+    {
+        this.shaderCount = Math.max(0, count);
+    }
+
+    /**
+     * Sets the number of different textures
+     * @param count the number of textures (0 = untextured)
+     */
+    public void setTextureCount(int count)
+    {
+        this.textureCount = Math.max(0, count);
+    }
+
+    /**
+     * Sets the seed for node placement
+     * @param seed the random seed
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the number of nodes asked for
+     * @return the number of nodes asked for
+     */
+    public int getNodeCount()
+    {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the most levels below the shader nodes
+     * @return the most levels below the shader nodes
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+     * Gets the most children of each node
+     * @return the most children of each node
+     */
+    public int getFanOut()
+    {
+        return fanOut;
+    }
+
+    /**
+     * Gets the fraction of nodes updated every frame
+     * @return the fraction of nodes updated every frame
+     */
+    public float getAnimatedFraction()
+    {
+        return animatedFraction;
+    }
+
+    /**
+     * Gets the number of different shader programs
+     * @return the number of different shader programs
+     */
+    public int getShaderCount()
+    {
+        return shaderCount;
+    }
+
+    /**
+     * Gets the number of different textures
+     * @return the number of different textures
+     */
+    public int getTextureCount()
+    {
+        return textureCount;
+    }
+
+    /**
+     * Gets the seed for node placement
+     * @return the seed for node placement
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Gets the number of nodes created by the last generate.
+     * Can be less than the node count if the depth and fan-out are too small.
+     * @return the number of generated nodes
+     */
+    public int getCreatedCount()
+    {
+        return createdCount;
+    }
+
+
+    /**
+     * Generates a new scene (not inited)
+     * @return the scene
+     * @throws IOException if the shader or texture files could not be written
+     */
+    public Scene generate() throws IOException
+    {
+        writeAssets();
+
+        Random random = new Random(seed);
+        Scene scene = new Scene();
+        LinkedList<Slot> open = new LinkedList<Slot>();
+
+        //one shader node per program at the top of the tree
+        if(shaderCount == 0)
+        {
+            open.add(new Slot(scene.getRootNode(), 0));
+        }
+        else
+        {
+            for(int i = 0; i < shaderCount; i++)
+            {
+                ShaderNode shader = new ShaderNode("shader" + i);
+                shader.loadShaderSource(GL.GL_VERTEX_SHADER, shaderFile(i, "vert").getPath());
+                shader.loadShaderSource(GL.GL_FRAGMENT_SHADER, shaderFile(i, "frag").getPath());
+                scene.getRootNode().addChild(shader);
+                open.add(new Slot(shader, 0));
+            }
+        }
+
+        //give each open node one child at a time so the tree fills evenly
+        createdCount = 0;
+        while(createdCount < nodeCount && !open.isEmpty())
+        {
+            Slot parent = open.removeFirst();
+            Node child = createNode(createdCount, random);
+            parent.node.addChild(child);
+            createdCount++;
+
+            parent.children++;
+            if(parent.children < fanOut)
+                open.addLast(parent);
+            if(parent.level + 1 < depth)
+                open.addLast(new Slot(child, parent.level + 1));
+        }
+
+        return scene;
+    }
+
+    /**
+     * Creates one node of the scene
+     * @param index the node number
+     * @param random random numbers for placement
+     * @return the node
+     */
+    private Node createNode(int index, Random random)
+    {
+        GLSquare square = new GLSquare();
+        if(textureCount > 0)
+            square.setFileName(textureFile(index % textureCount).getPath());
+
+        RenderableNode node;
+        if(random.nextFloat() < animatedFraction)
+            node = new SpinningNode("node" + index, square, 30.0f + random.nextFloat() * 90.0f);
+        else
+            node = new RenderableNode("node" + index, square);
+
+        node.setTranslation(random.nextFloat() * 2.0f - 1.0f, random.nextFloat() * 2.0f - 1.0f, random.nextFloat() * 2.0f - 1.0f);
+        node.setRotation(random.nextFloat() * 360.0f, 0.0f, 0.0f, 1.0f);
+        node.setScale(0.5f + random.nextFloat() * 0.5f);
+        return node;
+    }
+
+
+    /**
+     * Writes the shader and texture files that do not exist yet
+     * @throws IOException if the files could not be written
+     */
+    private void writeAssets() throws IOException
+    {
+        if(assetFolder == null)
+        {
+            assetFolder = File.createTempFile("scenegen", "");
+            if(!assetFolder.delete() || !assetFolder.mkdir())
+                throw new IOException("Could not create " + assetFolder);
+            assetFolder.deleteOnExit();
+        }
+
+        for(int i = 0; i < shaderCount; i++)
+        {
+            //each program is different so none can be shared
+            writeFile(shaderFile(i, "vert"), "void main()\n{\n    gl_TexCoord[0] = gl_MultiTexCoord0;\n"
+                    + "    gl_Position = ftransform() * " + (i + 1) + ".0;\n}\n");
+            writeFile(shaderFile(i, "frag"), "uniform sampler2D tex;\nvoid main()\n{\n"
+                    + "    gl_FragColor = texture2D(tex, gl_TexCoord[0].st) * " + (i + 1) + ".0;\n}\n");
+        }
+
+        for(int i = 0; i < textureCount; i++)
+            writeFile(textureFile(i), createTexture(i));
+    }
+
+    /**
+     * Gets the file of a generated shader
+     * @param index the shader number
+     * @param type "vert" or "frag"
+     * @return the file
+     */
+    private File shaderFile(int index, String type)
+    {
+        return new File(assetFolder, "shader" + index + "." + type);
+    }
+
+    /**
+     * Gets the file of a generated texture
+     * @param index the texture number
+     * @return the file
+     */
+    private File textureFile(int index)
+    {
+        return new File(assetFolder, "texture" + index + ".dds");
+    }
+
+    /**
+     * Writes a text file if it does not exist yet
+     * @param file the file
+     * @param text the contents
+     * @throws IOException if the file could not be written
+     */
+    private static void writeFile(File file, String text) throws IOException
+    {
+        writeFile(file, text.getBytes("US-ASCII"));
+    }
+
+    /**
+     * Writes a file if it does not exist yet.
+     * The file is deleted when the program exits.
+     * @param file the file
+     * @param data the contents
+     * @throws IOException if the file could not be written
+     */
+    private static void writeFile(File file, byte[] data) throws IOException
+    {
+        if(file.exists())
+            return;
+
+        OutputStream out = new FileOutputStream(file);
+        try
+        {
+            out.write(data);
+        }
+        finally
+        {
+            out.close();
+        }
+        file.deleteOnExit();
+    }
+
+    /**
+     * Creates a single colour DXT1 DDS texture
+     * @param index the texture number (picks the colour)
+     * @return the file contents
+     */
+    private static byte[] createTexture(int index)
+    {
+        int blocks = (TEXTURE_SIZE / 4) * (TEXTURE_SIZE / 4);
+        ByteBuffer b = ByteBuffer.allocate(128 + blocks * 8).order(ByteOrder.LITTLE_ENDIAN);
+
+        b.putInt(0, 0x20534444);                //"DDS "
+        b.putInt(4, 124);                       //header size
+        b.putInt(8, 0x1 | 0x2 | 0x4 | 0x1000 | 0x80000); //caps, height, width, pixel format, linear size
+        b.putInt(12, TEXTURE_SIZE);
+        b.putInt(16, TEXTURE_SIZE);
+        b.putInt(20, blocks * 8);
+        b.putInt(76, 32);                       //pixel format size
+        b.putInt(80, 0x4);                      //four cc
+        b.putInt(84, 0x31545844);               //"DXT1"
+        b.putInt(108, 0x1000);                  //texture
+
+        //every block is the same 565 colour
+        short colour = (short) ((index * 2654435761L) >>> 16);
+        for(int i = 0; i < blocks; i++)
+        {
+            b.putShort(128 + i * 8, colour);
+            b.putShort(128 + i * 8 + 2, colour);
+        }
+        return b.array();
+    }
+
+
+    /**
+     * A node waiting for children while the tree is generated
+     */
+    private static class Slot
+    {
+        /** The node */
+        final Node node;
+        /** Level below the shader nodes */
+        final int level;
+        /** Children added so far */
+        int children;
+
+        /**
+         * Creates a new slot
+         * @param node the node
+         * @param level the level of the node
+         */
+        Slot(Node node, int level)
+        {
+            this.node = node;
+            this.level = level;
+            this.children = 0;
+        }
+    }
+
+    /**
+     * A node that turns a little every update
+     */
+    private static class SpinningNode extends RenderableNode
+    {
+        /** Degrees turned per update */
+        private final float speed;
+        /** Current angle */
+        private float angle;
+
+        /**
+         * Creates a new spinning node
+         * @param name the name of the node
+         * @param square the square to draw
+         * @param speed degrees turned per update
+         */
+        SpinningNode(String name, GLSquare square, float speed)
+        {
+            super(name, square);
+            this.speed = speed;
+            this.angle = 0.0f;
+        }
+
+        @Override
+        protected boolean needsUpdate()
+        {
+            return true;
+        }
+
+        @Override
+        protected void updateSelf()
+        {
+            super.updateSelf();
+
+            angle = (angle + speed * 0.01f) % 360.0f;
+            setRotation(angle, 0.0f, 0.0f, 1.0f);
+        }
+    }
+}
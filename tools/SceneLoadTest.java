@@ -0,0 +1,295 @@
+
+
+package tools;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import scene.Scene;
+
+/**
+ * Headless load test of the scene graph.
+ * Generates scenes, inits them and runs update and draw for a number of
+ * frames against a counting GL, then prints one JSON line of results per
+ * scene size so runs can be compared over time.
+ *
+ * Arguments are key=value pairs:
+ * nodes (a comma separated list runs each size), depth, fanout, animated,
+ * shaders, textures, frames, warmup and seed.
+ * @author Andrew
+ */
+public class SceneLoadTest
+{
+    /** Frames to run before measuring */
+    private int warmupFrames;
+    /** Frames to measure */
+    private int frames;
+
+    /** Builds the scenes */
+    private final SceneGenerator generator;
+
+    /** Thread allocation counter (null if the JVM does not support it) */
+    private final com.sun.management.ThreadMXBean allocations;
+
+
+
+    /**
+     * Creates a new load test
+     * @param generator the scene generator
+     */
+    public SceneLoadTest(SceneGenerator generator)
+    {
+        this.generator = generator;
+        warmupFrames = 200;
+        frames = 1000;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported())
+        {
+            allocations = (com.sun.management.ThreadMXBean) threads;
+            allocations.setThreadAllocatedMemoryEnabled(true);
+        }
+        else
+        {
+            allocations = null;
+        }
+    }
+
+
+    /**
+     * Sets the number of frames to run before measuring
+     * @param frames the warm up frames
+     */
+    public void setWarmupFrames(int frames)
+    {
+        this.warmupFrames = Math.max(0, frames);
+    }
+
+    /**
+     * Sets the number of frames to measure
+     * @param frames the measured frames
+     */
+    public void setFrames(int frames)
+    {
+        this.frames = Math.max(1, frames);
+    }
+
+
+    /**
+     * Generates a scene and measures it
+     * @return the results as one line of JSON
+     * @throws IOException if the scene files could not be written
+     */
+    public String run() throws IOException
+    {
+        CountingGL counter = new CountingGL();
+
+        long start = System.nanoTime();
+        Scene scene = generator.generate();
+        long generateTime = System.nanoTime() - start;
+
+        //a small tree stops early - say so instead of quietly measuring a smaller scene
+        if(generator.getCreatedCount() < generator.getNodeCount())
+        {
+            System.err.println("Warning: only " + generator.getCreatedCount() + " of " + generator.getNodeCount()
+                    + " nodes fit in depth=" + generator.getDepth() + " fanout=" + generator.getFanOut()
+                    + " - increase depth or fanout");
+        }
+
+        start = System.nanoTime();
+        scene.init(counter.getGL());
+        long initTime = System.nanoTime() - start;
+
+        for(int i = 0; i < warmupFrames; i++)
+        {
+            scene.update();
+            scene.draw(counter.getGL());
+        }
+
+        long[] frameTimes = new long[frames];
+        long updateTime = 0;
+        long drawTime = 0;
+        long updateBytes = 0;
+        long drawBytes = 0;
+        long calls = counter.getCallCount();
+
+        for(int i = 0; i < frames; i++)
+        {
+            long a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            scene.update();
+            long t1 = System.nanoTime();
+            long a1 = allocatedBytes();
+            scene.draw(counter.getGL());
+            long t2 = System.nanoTime();
+            long a2 = allocatedBytes();
+
+            updateTime += t1 - t0;
+            drawTime += t2 - t1;
+            frameTimes[i] = t2 - t0;
+            updateBytes += a1 - a0;
+            drawBytes += a2 - a1;
+        }
+
+        calls = counter.getCallCount() - calls;
+
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        System.gc();
+        long heapLive = runtime.totalMemory() - runtime.freeMemory();
+
+        Arrays.sort(frameTimes);
+
+        StringBuilder json = new StringBuilder("{");
+        field(json, "requestedNodes", generator.getNodeCount());
+        field(json, "depth", generator.getDepth());
+        field(json, "fanOut", generator.getFanOut());
+        field(json, "animated", generator.getAnimatedFraction());
+        field(json, "shaders", generator.getShaderCount());
+        field(json, "textures", generator.getTextureCount());
+        field(json, "seed", generator.getSeed());
+        field(json, "nodes", generator.getCreatedCount());
+        field(json, "activeNodes", scene.getActiveNodeCount());
+        field(json, "frames", frames);
+        field(json, "generateMillis", millis(generateTime));
+        field(json, "initMillis", millis(initTime));
+        field(json, "frameP50Millis", millis(percentile(frameTimes, 0.50)));
+        field(json, "frameP99Millis", millis(percentile(frameTimes, 0.99)));
+        field(json, "frameMaxMillis", millis(frameTimes[frames - 1]));
+        field(json, "updateMeanMillis", millis(updateTime) / frames);
+        field(json, "drawMeanMillis", millis(drawTime) / frames);
+        field(json, "glCallsPerFrame", (double) calls / frames);
+        field(json, "heapUsedBytes", heapUsed);
+        field(json, "heapLiveBytes", heapLive);
+        if(allocations != null)
+        {
+            field(json, "updateAllocatedBytesPerFrame", (double) updateBytes / frames);
+            field(json, "drawAllocatedBytesPerFrame", (double) drawBytes / frames);
+        }
+        json.setCharAt(json.length() - 1, '}');
+        return json.toString();
+    }
+
+    /**
+     * Gets the bytes allocated by this thread so far
+     * @return the allocated bytes - or 0 if not supported
+     */
+    private long allocatedBytes()
+    {
+        if(allocations == null)
+            return 0;
+        return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Gets a percentile of sorted times
+     * @param sorted the times in order
+     * @param fraction the percentile (0..1)
+     * @return the time
+     */
+    private static long percentile(long[] sorted, double fraction)
+    {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds
+     * @param nanos the time in nanoseconds
+     * @return the time in milliseconds
+     */
+    private static double millis(long nanos)
+    {
+        return nanos / 1000000.0;
+    }
+
+    /**
+     * Adds a number field to a JSON object
+     * @param json the object being built
+     * @param name the field name
+     * @param value the value
+     */
+    private static void field(StringBuilder json, String name, double value)
+    {
+        json.append('"').append(name).append("\":");
+        if(value == Math.rint(value) && Math.abs(value) < 1e15)
+            json.append((long) value);
+        else
+            json.append(Math.round(value * 1000.0) / 1000.0);
+        json.append(',');
+    }
+
+
+    /**
+     * Runs the load test
+     * @param args key=value settings
+     */
+    public static void main(String[] args)
+    {
+        SceneGenerator generator = new SceneGenerator();
+        SceneLoadTest test = new SceneLoadTest(generator);
+        int[] nodeCounts = {1000};
+
+        try
+        {
+            for(int i = 0; i < args.length; i++)
+            {
+                int split = args[i].indexOf('=');
+                if(split < 0)
+                    throw new IllegalArgumentException(args[i]);
+
+                String key = args[i].substring(0, split);
+                String value = args[i].substring(split + 1);
+
+                if(key.equals("nodes"))
+                {
+                    String[] counts = value.split(",");
+                    nodeCounts = new int[counts.length];
+                    for(int j = 0; j < counts.length; j++)
+                        nodeCounts[j] = Integer.parseInt(counts[j].trim());
+                }
+                else if(key.equals("depth"))
+                    generator.setDepth(Integer.parseInt(value));
+                else if(key.equals("fanout"))
+                    generator.setFanOut(Integer.parseInt(value));
+                else if(key.equals("animated"))
+                    generator.setAnimatedFraction(Float.parseFloat(value));
+                else if(key.equals("shaders"))
+                    generator.setShaderCount(Integer.parseInt(value));
+                else if(key.equals("textures"))
+                    generator.setTextureCount(Integer.parseInt(value));
+                else if(key.equals("frames"))
+                    test.setFrames(Integer.parseInt(value));
+                else if(key.equals("warmup"))
+                    test.setWarmupFrames(Integer.parseInt(value));
+                else if(key.equals("seed"))
+                    generator.setSeed(Long.parseLong(value));
+                else
+                    throw new IllegalArgumentException(args[i]);
+            }
+        }
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("Bad argument " + ex.getMessage());
+            System.err.println("Usage: SceneLoadTest [nodes=1000,10000] [depth=4] [fanout=8] [animated=0.1]"
+                    + " [shaders=4] [textures=8] [frames=1000] [warmup=200] [seed=1]");
+            System.exit(1);
+        }
+
+        try
+        {
+            for(int i = 0; i < nodeCounts.length; i++)
+            {
+                generator.setNodeCount(nodeCounts[i]);
+                System.out.println(test.run());
+            }
+        }
+        catch (IOException ex)
+        {
+            System.err.println("Could not write scene files: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+}